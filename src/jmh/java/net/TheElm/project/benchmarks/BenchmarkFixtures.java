@@ -0,0 +1,93 @@
+/*
+ * This software is licensed under the MIT License
+ * https://github.com/GStefanowich/MC-Server-Protection
+ *
+ * Copyright (c) 2019 Gregory Stefanowich
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package net.TheElm.project.benchmarks;
+
+import net.TheElm.project.CoreMod;
+import net.TheElm.project.protections.claiming.Claimant;
+import net.TheElm.project.utilities.NbtUtils;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.IntArrayTag;
+import net.minecraft.nbt.ListTag;
+import net.minecraft.nbt.NbtIo;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.Random;
+import java.util.UUID;
+
+/*
+ * Files for the benchmarks, kept under the build directory instead of
+ * the working directory, since there is no server or loader to ask
+ */
+final class BenchmarkFixtures {
+    
+    private BenchmarkFixtures() {}
+    
+    /**
+     * Use the config and world folders given to the benchmark JVM, or folders under build/jmh
+     */
+    static void folders() {
+        BenchmarkFixtures.folder( CoreMod.MOD_ID + ".config", "config" );
+        BenchmarkFixtures.folder( CoreMod.MOD_ID + ".world", "world" );
+    }
+    private static void folder(@NotNull String property, @NotNull String name) {
+        String path;
+        if ((path = System.getProperty( property )) == null)
+            System.setProperty( property, path = new File("build/jmh", name).getAbsolutePath() );
+        
+        File folder = new File( path );
+        if ((!folder.exists()) && (!folder.mkdirs()))
+            throw new IllegalStateException("Could not create the benchmark folder " + folder);
+    }
+    
+    /**
+     * Save the claimed chunks of a player, where the claimant will load them from
+     * @param uuid The player
+     * @param chunks How many chunks the player has claimed
+     */
+    static void claimedChunks(@NotNull UUID uuid, int chunks) throws IOException {
+        Random random = new Random(42L);
+        
+        ListTag chunkList = new ListTag();
+        for (int i = 0; i < chunks; i++)
+            chunkList.add(new IntArrayTag(new int[]{ i % 3 - 1, random.nextInt(2000) - 1000, random.nextInt(2000) - 1000 }));
+        
+        CompoundTag tag = new CompoundTag();
+        tag.putString("type", Claimant.ClaimantType.PLAYER.name());
+        tag.putUuid("iden", uuid);
+        tag.put("landChunks", chunkList);
+        
+        File folder = new File(NbtUtils.worldFolder(), "sewing-machine");
+        if ((!folder.exists()) && (!folder.mkdirs()))
+            throw new IOException("Could not create " + folder);
+        try (FileOutputStream stream = new FileOutputStream(new File(folder, "player_" + uuid + ".dat"))) {
+            NbtIo.writeCompressed( tag, stream );
+        }
+    }
+    
+}
@@ -0,0 +1,152 @@
+/*
+ * This software is licensed under the MIT License
+ * https://github.com/GStefanowich/MC-Server-Protection
+ *
+ * Copyright (c) 2019 Gregory Stefanowich
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package net.TheElm.project.benchmarks;
+
+import net.TheElm.project.enums.ClaimPermissions;
+import net.TheElm.project.enums.ClaimRanks;
+import net.TheElm.project.enums.ClaimSettings;
+import net.TheElm.project.enums.Permissions;
+import net.TheElm.project.protections.claiming.ClaimantPlayer;
+import net.TheElm.project.protections.ranks.PlayerRank;
+import net.TheElm.project.utilities.ChunkUtils;
+import net.TheElm.project.utilities.ChunkUtils.ClaimSlice;
+import net.TheElm.project.utilities.ChunkUtils.InnerClaim;
+import net.TheElm.project.utilities.RankUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Protection checks done on every block interaction, through the same
+ *   claim and rank code that chunks and players use
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ClaimProtectionBenchmark {
+    
+    @Param({ "1", "8", "32" })
+    public int layers;
+    
+    private final UUID owner = new UUID(1L, 1L);
+    private final UUID[] players = new UUID[64];
+    
+    private ClaimantPlayer claimant;
+    private ClaimSlice[] slices;
+    private int[] heights;
+    private PlayerRank[] playerRanks;
+    
+    private final ClaimSettings[] settings = ClaimSettings.values();
+    private final ClaimPermissions[] permissions = ClaimPermissions.values();
+    private final ClaimRanks[] ranks = ClaimRanks.values();
+    private final String[] nodes = { Permissions.PLAYER_NICKNAME, Permissions.VANILLA_COMMAND_KICK, Permissions.VANILLA_COMMAND_BAN, "world.interact" };
+    
+    private int cursor = 0;
+    
+    @Setup
+    public void setup() {
+        BenchmarkFixtures.folders();
+        Random random = new Random(42L);
+        
+        // An owner with some friends, and some strangers
+        this.claimant = ClaimantPlayer.get(this.owner);
+        for (int i = 0; i < this.players.length; i++) {
+            this.players[i] = new UUID(2L, i);
+            if ((i & 1) == 0)
+                this.claimant.updateFriend(this.players[i], this.ranks[i % this.ranks.length]);
+        }
+        
+        // A chunks worth of columns, each split into stacked claims, every other one owned
+        this.slices = new ClaimSlice[256];
+        int height = 256 / this.layers;
+        for (int i = 0; i < this.slices.length; i++) {
+            ClaimSlice slice = new ClaimSlice();
+            for (int layer = 0; layer < this.layers; layer++)
+                slice.set(new InnerClaim(((layer & 1) == 0 ? this.owner : null), ((layer + 1) * height) - 1, layer * height));
+            this.slices[i] = slice;
+        }
+        
+        this.heights = new int[1024];
+        for (int i = 0; i < this.heights.length; i++)
+            this.heights[i] = random.nextInt(256);
+        
+        // Ranks in the order that players hold them
+        PlayerRank everyone = new PlayerRank("*", null);
+        everyone.addNode("+world.interact");
+        PlayerRank builder = new PlayerRank("builder", null);
+        builder.addNode("+" + Permissions.PLAYER_NICKNAME);
+        builder.addNode("+" + Permissions.VANILLA_COMMAND_KICK);
+        builder.addNode("-" + Permissions.VANILLA_COMMAND_BAN);
+        this.playerRanks = new PlayerRank[]{ builder, everyone };
+    }
+    
+    private int next() {
+        return (this.cursor = (this.cursor + 1) & 1023);
+    }
+    
+    @Benchmark
+    public InnerClaim sliceLookup() {
+        int i = this.next();
+        return this.slices[i & 255].get(this.heights[i]);
+    }
+    
+    @Benchmark
+    public boolean sliceSetting() {
+        int i = this.next();
+        InnerClaim claim = this.slices[i & 255].get(this.heights[i]);
+        return claim.isSetting(this.settings[i % this.settings.length]);
+    }
+    
+    @Benchmark
+    public boolean slicePermission() {
+        int i = this.next();
+        InnerClaim claim = this.slices[i & 255].get(this.heights[i]);
+        return (claim.getOwner() == null) || claim.canPlayerDo(this.players[i & 63], this.permissions[i % this.permissions.length]);
+    }
+    
+    @Benchmark
+    public boolean chunkPermission() {
+        // The check behind ClaimedChunk#canPlayerDo, for a chunk outside of any town
+        int i = this.next();
+        return ChunkUtils.canPlayerDoInClaim(this.claimant, null, this.players[i & 63], this.permissions[i % this.permissions.length]);
+    }
+    
+    @Benchmark
+    public boolean rankPermission() {
+        int i = this.next();
+        return RankUtils.hasPermission(this.playerRanks, this.nodes[i & 3]);
+    }
+    
+}
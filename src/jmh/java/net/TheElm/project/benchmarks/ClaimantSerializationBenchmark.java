@@ -0,0 +1,99 @@
+/*
+ * This software is licensed under the MIT License
+ * https://github.com/GStefanowich/MC-Server-Protection
+ *
+ * Copyright (c) 2019 Gregory Stefanowich
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package net.TheElm.project.benchmarks;
+
+import net.TheElm.project.CoreMod;
+import net.TheElm.project.enums.ClaimPermissions;
+import net.TheElm.project.enums.ClaimRanks;
+import net.TheElm.project.enums.ClaimSettings;
+import net.TheElm.project.protections.claiming.ClaimantPlayer;
+import net.TheElm.project.utilities.NbtUtils;
+import net.minecraft.nbt.CompoundTag;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Claimant save and load through the real claimant and NbtUtils code,
+ *   with the world folder under the build directory
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ClaimantSerializationBenchmark {
+    
+    @Param({ "16", "512", "4096" })
+    public int chunks;
+    
+    private final UUID uuid = new UUID(1L, 1L);
+    private ClaimantPlayer claimant;
+    
+    @Setup
+    public void setup() throws IOException {
+        BenchmarkFixtures.folders();
+        BenchmarkFixtures.claimedChunks(this.uuid, this.chunks);
+        
+        this.claimant = ClaimantPlayer.get(this.uuid);
+        for (int i = 0; i < 20; i++)
+            this.claimant.updateFriend(new UUID(2L, i), ClaimRanks.ALLY);
+        for (ClaimPermissions permission : ClaimPermissions.values())
+            this.claimant.updatePermission(permission, permission.getDefault());
+        for (ClaimSettings setting : ClaimSettings.values())
+            this.claimant.updateSetting(setting, setting.getDefault(null));
+        
+        if (!NbtUtils.writeClaimData(this.claimant))
+            throw new IOException("Could not save the benchmark claimant");
+    }
+    
+    @Benchmark
+    public CompoundTag writeTag() {
+        CompoundTag tag = new CompoundTag();
+        this.claimant.writeCustomDataToTag(tag);
+        return tag;
+    }
+    
+    @Benchmark
+    public boolean save() {
+        return NbtUtils.writeClaimData(this.claimant);
+    }
+    
+    @Benchmark
+    public ClaimantPlayer load() {
+        // Drop the cached claimant so that it is read from the file again
+        CoreMod.removeFromCache(this.claimant);
+        return (this.claimant = ClaimantPlayer.get(this.uuid));
+    }
+    
+}
@@ -0,0 +1,87 @@
+/*
+ * This software is licensed under the MIT License
+ * https://github.com/GStefanowich/MC-Server-Protection
+ *
+ * Copyright (c) 2019 Gregory Stefanowich
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package net.TheElm.project.benchmarks;
+
+import net.TheElm.project.objects.TextTemplate;
+import net.TheElm.project.utilities.FormattingUtils;
+import net.TheElm.project.utilities.TranslatableServerSide;
+import net.minecraft.text.Text;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Text building used by chat, the MOTD and command feedback
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TextFormattingBenchmark {
+    
+    private static final String MOTD = "&6Welcome to &b${world^}&6! &7It is ${time__} on &a${difficulty_}&7, running ${version}";
+    
+    private TextTemplate template;
+    private final Map<String, String> values = new HashMap<>();
+    
+    @Setup
+    public void setup() {
+        this.template = TextTemplate.parse(MOTD);
+        this.values.put("world", "overworld");
+        this.values.put("time", "Morning");
+        this.values.put("difficulty", "HARD");
+        this.values.put("version", "1.15.2");
+    }
+    
+    @Benchmark
+    public TextTemplate templateParse() {
+        return TextTemplate.parse(MOTD);
+    }
+    
+    @Benchmark
+    public String templateRender() {
+        return this.template.render(this.values);
+    }
+    
+    @Benchmark
+    public Text stringToText() {
+        return FormattingUtils.stringToText(this.template.render(this.values));
+    }
+    
+    @Benchmark
+    public Text translation() {
+        return TranslatableServerSide.text(Locale.US, "chat.mute.player", "Steve");
+    }
+    
+}
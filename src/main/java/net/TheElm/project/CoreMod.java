@@ -49,11 +49,11 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.io.File;
-import java.lang.ref.WeakReference;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
@@ -70,8 +70,11 @@ public abstract class CoreMod {
     // Mod memory cache for claims
     public static final Map<ServerPlayerEntity, UUID> PLAYER_LOCATIONS = Collections.synchronizedMap(new WeakHashMap<>()); // Reference of where players are
     public static final Map<ServerPlayerEntity, UUID> PLAYER_WARP_INVITES = Collections.synchronizedMap(new WeakHashMap<>()); // Reference of warp invitations
-    private static final Map<UUID, WeakReference<ClaimantPlayer>> PLAYER_CLAIM_CACHE = Collections.synchronizedMap(new HashMap<>()); // Reference from player UUID
-    private static final Map<UUID, WeakReference<ClaimantTown>> TOWN_CLAIM_CACHE = Collections.synchronizedMap(new HashMap<>()); // Reference from owner UUID
+    private static final Map<UUID, ClaimantPlayer> PLAYER_CLAIM_CACHE = Collections.synchronizedMap(new HashMap<>()); // Reference from player UUID
+    private static final Map<UUID, ClaimantTown> TOWN_CLAIM_CACHE = Collections.synchronizedMap(new HashMap<>()); // Reference from owner UUID
+    
+    // How long an unreferenced claimant stays cached
+    private static final long CLAIMANT_IDLE_MILLIS = 5 * 60 * 1000;
     
     public static final UUID spawnID = new UUID( 0, 0 );
     
@@ -94,26 +97,26 @@ public abstract class CoreMod {
      */
     public static void addToCache(Claimant claimant) {
         if (claimant instanceof ClaimantPlayer)
-            PLAYER_CLAIM_CACHE.put(claimant.getId(), new WeakReference<>((ClaimantPlayer) claimant));
+            PLAYER_CLAIM_CACHE.put(claimant.getId(), (ClaimantPlayer) claimant);
         else if (claimant instanceof ClaimantTown)
-            TOWN_CLAIM_CACHE.put(claimant.getId(), new WeakReference<>((ClaimantTown) claimant));
+            TOWN_CLAIM_CACHE.put(claimant.getId(), (ClaimantTown) claimant);
     }
     @Nullable
     public static Claimant removeFromCache(Claimant claimant) {
-        if (claimant instanceof ClaimantPlayer) {
-            WeakReference<ClaimantPlayer> reference;
-            if ((reference = PLAYER_CLAIM_CACHE.remove(claimant.getId())) != null)
-                return reference.get();
-        } else if (claimant instanceof ClaimantTown) {
-            WeakReference<ClaimantTown> reference;
-            if ((reference = TOWN_CLAIM_CACHE.remove(claimant.getId())) != null)
-                return reference.get();
-        }
+        if (claimant instanceof ClaimantPlayer)
+            return PLAYER_CLAIM_CACHE.remove(claimant.getId());
+        if (claimant instanceof ClaimantTown)
+            return TOWN_CLAIM_CACHE.remove(claimant.getId());
         return null;
     }
     @Nullable
     public static <T extends Claimant> T getFromCache(@NotNull Class<T> type, @NotNull UUID uuid) {
-        return CoreMod.getCacheStream( type ).filter((claimant) -> claimant.getId().equals(uuid)).findFirst().orElse( null );
+        Claimant claimant = null;
+        if (type.equals(ClaimantPlayer.class))
+            claimant = PLAYER_CLAIM_CACHE.get(uuid);
+        else if (type.equals(ClaimantTown.class))
+            claimant = TOWN_CLAIM_CACHE.get(uuid);
+        return (T) claimant;
     }
     @Nullable
     public static <T extends Claimant> T getFromCache(@NotNull Class<T> type, @NotNull String name) {
@@ -125,21 +128,44 @@ public abstract class CoreMod {
     public static <T extends Claimant> Stream<T> getCacheStream(@Nullable Class<T> type) {
         List<T> out = new ArrayList<>();
         if ((type == null) || type.equals(ClaimantPlayer.class)) {
-            ClaimantPlayer player;
-            for (WeakReference<ClaimantPlayer> reference : PLAYER_CLAIM_CACHE.values()) {
-                if ((player = reference.get()) != null)
+            synchronized (PLAYER_CLAIM_CACHE) {
+                for (ClaimantPlayer player : PLAYER_CLAIM_CACHE.values())
                     out.add((T) player);
             }
         }
         if ((type == null) || type.equals(ClaimantTown.class)) {
-            ClaimantTown town;
-            for ( WeakReference<ClaimantTown> reference : TOWN_CLAIM_CACHE.values() ) {
-                if ((town = reference.get()) != null)
+            synchronized (TOWN_CLAIM_CACHE) {
+                for (ClaimantTown town : TOWN_CLAIM_CACHE.values())
                     out.add((T) town);
             }
         }
         return out.stream();
     }
+    /**
+     * Save and drop claimants that no loaded chunk or online player
+     * has held for a while. A town released by an evicted player counts
+     * as used at that moment, so it waits out its own idle time first.
+     */
+    public static int evictClaimants() {
+        return CoreMod.evictClaimants( PLAYER_CLAIM_CACHE ) + CoreMod.evictClaimants( TOWN_CLAIM_CACHE );
+    }
+    private static int evictClaimants(@NotNull Map<UUID, ? extends Claimant> cache) {
+        int evicted = 0;
+        synchronized (cache) {
+            Iterator<? extends Claimant> iterator = cache.values().iterator();
+            while (iterator.hasNext()) {
+                Claimant claimant = iterator.next();
+                if (!claimant.isEvictable( CLAIMANT_IDLE_MILLIS ))
+                    continue;
+                
+                // Save while still cached, so a reload can't read older data
+                claimant.evict();
+                iterator.remove();
+                evicted++;
+            }
+        }
+        return evicted;
+    }
     
     public void initialize() {
         CoreMod.logInfo( "Sewing Machine utilities mod is starting." );
@@ -242,9 +268,9 @@ public abstract class CoreMod {
         );
     }
     public static File getConfDir() throws RuntimeException {
-        // Get the directory
-        final File config = CoreMod.getFabric().getConfigDirectory();
-        final File dir = new File(config, CoreMod.MOD_ID);
+        // Get the directory, tools that run without the loader (Such as the benchmarks) can set their own
+        final String override = System.getProperty( CoreMod.MOD_ID + ".config" );
+        final File dir = ( override != null ? new File( override ) : new File(CoreMod.getFabric().getConfigDirectory(), CoreMod.MOD_ID) );
         // Make sure the directory exists
         if (!(dir.exists() || dir.mkdirs()))
             throw new RuntimeException("Error accessing the config");
@@ -52,6 +52,7 @@ import net.TheElm.project.protections.events.EntityAttack;
 import net.TheElm.project.protections.events.ItemPlace;
 import net.TheElm.project.protections.events.ItemUse;
 import net.TheElm.project.protections.logging.EventLogger;
+import net.TheElm.project.utilities.GuideUtils;
 import net.fabricmc.api.DedicatedServerModInitializer;
 import net.fabricmc.fabric.api.registry.CommandRegistry;
 import net.minecraft.server.MinecraftServer;
@@ -110,6 +111,13 @@ public final class ServerCore extends CoreMod implements DedicatedServerModIniti
         ItemPlace.init();
         ItemUse.init();
         
+        // Load the guide books before any players join
+        GuideUtils.reload();
+        GuideUtils.watch();
+        
+        // Load the permission ranks before any players join
+        RankUtils.reload();
+        
         CoreMod.logInfo( "Initializing Database." );
         try {
             // Initialize the database
@@ -577,15 +577,19 @@ public final class ClaimCommand {
             // Send the message to the claimant
             TranslatableServerSide.send( player, "claim.chunk.unclaimed", claimed.getCount() );
             
+            // Collect the chunks first, unclaiming removes them from the claimant
+            List<int[]> chunks = new ArrayList<>( claimed.getCount() );
+            claimed.forEachChunk((dimension, x, z) -> chunks.add(new int[]{ dimension, x, z }));
+            
             // Unclaim EVERY chunk
-            claimed.forEachChunk((set) -> {
+            for (int[] set : chunks) {
                 // Get the dimension
                 DimensionType dimension = DimensionType.byRawId(set[0]);
                 ServerWorld world = server.getWorld(dimension);
                 
                 // Unclaim the chunk
                 ClaimCommand.tryUnclaimChunkAt(player.getUuid(), (WorldChunk)world.getChunk( set[1], set[2], ChunkStatus.FULL ));
-            });
+            }
         }
         
         return Command.SINGLE_SUCCESS;
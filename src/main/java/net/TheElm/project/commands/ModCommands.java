@@ -31,6 +31,8 @@ import com.mojang.brigadier.context.CommandContext;
 import net.TheElm.project.CoreMod;
 import net.TheElm.project.config.SewingMachineConfig;
 import net.TheElm.project.interfaces.PlayerPermissions;
+import net.TheElm.project.utilities.ExperienceUtils;
+import net.TheElm.project.utilities.FurnaceUtils;
 import net.TheElm.project.utilities.RankUtils;
 import net.minecraft.server.MinecraftServer;
 import net.minecraft.server.PlayerManager;
@@ -58,6 +60,9 @@ public final class ModCommands {
                     .executes(ModCommands::ReloadPermissions)
                 )
             )
+            .then(CommandManager.literal("stats")
+                .executes(ModCommands::ShowStats)
+            )
         );
         
         CoreMod.logDebug("- Registered SewingMachine command");
@@ -95,6 +100,21 @@ public final class ModCommands {
         return success ? Command.SINGLE_SUCCESS : -1;
     }
     
+    private static int ShowStats(CommandContext<ServerCommandSource> context) {
+        ServerCommandSource source = context.getSource();
+        
+        source.sendFeedback(new LiteralText("Furnaces: ")
+            .append(new LiteralText(String.valueOf(FurnaceUtils.getActiveCount())).formatted(Formatting.AQUA))
+            .append(" active, ")
+            .append(new LiteralText(String.valueOf(FurnaceUtils.getDormantCount())).formatted(Formatting.AQUA))
+            .append(" dormant"), false);
+        source.sendFeedback(new LiteralText("Experience orbs merged: ")
+            .append(new LiteralText(String.valueOf(ExperienceUtils.getMergeRate())).formatted(Formatting.AQUA))
+            .append(" per second"), false);
+        
+        return Command.SINGLE_SUCCESS;
+    }
+    
     private static void ReloadCommandTree( MinecraftServer server, boolean reloadPermissions ) {
         PlayerManager playerManager = server.getPlayerManager();
         
@@ -25,12 +25,12 @@
 
 package net.TheElm.project.config;
 
-import com.google.gson.GsonBuilder;
 import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.ThreadLocalRandom;
 import java.util.function.Function;
@@ -38,7 +38,7 @@ import java.util.function.Function;
 public final class ConfigArray<T extends Object> extends ConfigBase<T> {
     
     private final Function<JsonElement, T> setter;
-    private final List<T> value;
+    private volatile List<T> value;
     
     public ConfigArray(@NotNull String location, Function<JsonElement, T> setter) {
         this( location, new ArrayList<>(), setter );
@@ -46,14 +46,13 @@ public final class ConfigArray<T extends Object> extends ConfigBase<T> {
     public ConfigArray(@NotNull String location, List<T> defaultValue, Function<JsonElement, T> setter) {
         super( location );
         
-        this.value = defaultValue;
+        this.value = Collections.unmodifiableList(new ArrayList<>( defaultValue ));
         this.setter = setter;
     }
     
     @Override
     public JsonElement getElement() {
-        return new GsonBuilder()
-            .disableHtmlEscaping().create().toJsonTree(this.value);
+        return GSON.toJsonTree(this.value);
     }
     public List<T> get() {
         return this.value;
@@ -62,19 +61,24 @@ public final class ConfigArray<T extends Object> extends ConfigBase<T> {
         return this.value.get(index);
     }
     public T getRandom() {
-        if (this.value.size() == 1)
-            return this.get(0);
-        return this.get(ThreadLocalRandom.current().nextInt(this.value.size()));
+        List<T> value = this.value;
+        if (value.size() == 1)
+            return value.get(0);
+        return value.get(ThreadLocalRandom.current().nextInt(value.size()));
     }
     @Override
-    public void set(JsonElement value) {
-        if (value == null) return;
+    protected Runnable stage(JsonElement value) {
+        if (value == null) return () -> {};
+        
+        // Replace the whole list, so that reloading doesn't append
+        List<T> parsed = new ArrayList<>();
         if (value instanceof JsonArray) {
             for (JsonElement element : value.getAsJsonArray())
-                this.value.add(this.setter.apply(element));
-            return;
-        }
-        this.value.add(this.setter.apply( value ));
+                parsed.add(this.setter.apply(element));
+        } else parsed.add(this.setter.apply( value ));
+        
+        List<T> list = Collections.unmodifiableList( parsed );
+        return () -> this.value = list;
     }
     
 }
@@ -25,10 +25,14 @@
 
 package net.TheElm.project.config;
 
+import com.google.gson.Gson;
 import com.google.gson.JsonElement;
 
 public abstract class ConfigBase<T extends Object> {
     
+    // Shared by every option that has no special serializer
+    protected static final Gson GSON = new Gson();
+    
     private final String path;
     private boolean wasDefined = false;
     
@@ -43,10 +47,25 @@ public abstract class ConfigBase<T extends Object> {
         return this.path;
     }
     
-    public abstract void set( JsonElement value );
+    /**
+     * Parse a new value without applying it, so that a whole config can
+     * be validated before any of its options are changed
+     * @param value The value to parse
+     * @return Applies the parsed value
+     */
+    protected abstract Runnable stage( JsonElement value );
+    public final Runnable stage( JsonElement value, boolean wasDefined ) {
+        Runnable apply = this.stage( value );
+        return () -> {
+            apply.run();
+            this.wasDefined = wasDefined;
+        };
+    }
+    public final void set( JsonElement value ) {
+        this.stage( value ).run();
+    }
     public final void set( JsonElement value, boolean wasDefined ) {
-        this.set( value );
-        this.wasDefined = wasDefined;
+        this.stage( value, wasDefined ).run();
     }
     
     public final boolean wasUserDefined() {
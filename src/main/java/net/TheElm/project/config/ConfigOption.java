@@ -25,6 +25,7 @@
 
 package net.TheElm.project.config;
 
+import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonSerializer;
@@ -38,6 +39,7 @@ public final class ConfigOption<T extends Object> extends ConfigBase<T> {
     private final Function<JsonElement, T> setter;
     private T value;
     private JsonSerializer<T> serializer = null;
+    private Gson gson = null;
     
     public ConfigOption(@NotNull String location, @Nullable Function<JsonElement, T> setter) {
         this( location, null, setter );
@@ -54,8 +56,9 @@ public final class ConfigOption<T extends Object> extends ConfigBase<T> {
     }
     
     @Override
-    public final void set( JsonElement value ) {
-        this.value = ( value == null ? null : this.setter.apply( value ) );
+    protected final Runnable stage( JsonElement value ) {
+        T parsed = ( value == null ? null : this.setter.apply( value ) );
+        return () -> this.value = parsed;
     }
     public final T get() {
         return this.value;
@@ -72,22 +75,29 @@ public final class ConfigOption<T extends Object> extends ConfigBase<T> {
     
     @Override
     public final JsonElement getElement() {
-        return ConfigOption.convertToJSON( this.value, this.serializer );
+        T src = this.value;
+        if ((src == null) || (this.serializer == null))
+            return GSON.toJsonTree( src );
+        
+        // Build the serializing Gson once
+        if (this.gson == null)
+            this.gson = new GsonBuilder().registerTypeAdapter(src.getClass(), this.serializer).create();
+        return this.gson.toJsonTree( src );
     }
     
     public final ConfigOption<T> serializer(JsonSerializer<T> serializer) {
         this.serializer = serializer;
+        this.gson = null;
         return this;
     }
     
     public static JsonElement convertToJSON( @Nullable Object src ) {
-        return ConfigOption.convertToJSON( src, null );
+        return GSON.toJsonTree( src );
     }
     public static <T extends Object> JsonElement convertToJSON( @Nullable T src, @Nullable JsonSerializer<T> serializer ) {
-        GsonBuilder builder = new GsonBuilder();
-        if (src != null && serializer != null)
-            builder.registerTypeAdapter(src.getClass(), serializer);
-        return builder.create().toJsonTree( src );
+        if ((src == null) || (serializer == null))
+            return GSON.toJsonTree( src );
+        return new GsonBuilder().registerTypeAdapter(src.getClass(), serializer).create().toJsonTree( src );
     }
     
 }
@@ -0,0 +1,87 @@
+/*
+ * This software is licensed under the MIT License
+ * https://github.com/GStefanowich/MC-Server-Protection
+ *
+ * Copyright (c) 2019 Gregory Stefanowich
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package net.TheElm.project.config;
+
+import org.jetbrains.annotations.NotNull;
+
+/*
+ * The config values that are read every tick or on every block event,
+ * copied into plain fields. A new snapshot is made whenever the config
+ * is reloaded, so the values within one snapshot always match.
+ */
+public final class ConfigSnapshot {
+    
+    // Claiming
+    public final boolean DO_CLAIMS;
+    public final boolean CLAIM_CREATIVE_BYPASS;
+    public final int PLAYER_CLAIMS_LIMIT;
+    
+    // Logging
+    public final boolean LOG_BLOCKS_BREAKING;
+    public final boolean LOG_BLOCKS_PLACING;
+    
+    // Player Death Chests
+    public final boolean DO_DEATH_CHESTS;
+    public final int MAX_DEATH_SCAN;
+    public final int MAX_DEATH_ELEVATION;
+    public final boolean PRINT_DEATH_CHEST_LOC;
+    
+    // Player Combat
+    public final boolean PVP_DISABLE_DEATH_CHEST;
+    public final int PVP_COMBAT_SECONDS;
+    
+    // Sleeping
+    public final boolean DO_SLEEP_VOTE;
+    public final int SLEEP_PERCENT;
+    
+    // Miscellaneous
+    public final boolean EXTINGUISH_CAMPFIRES;
+    public final boolean SPAWNER_ABSORB_MOBS;
+    
+    ConfigSnapshot(@NotNull SewingMachineConfig config) {
+        this.DO_CLAIMS = config.DO_CLAIMS.get();
+        this.CLAIM_CREATIVE_BYPASS = config.CLAIM_CREATIVE_BYPASS.get();
+        this.PLAYER_CLAIMS_LIMIT = config.PLAYER_CLAIMS_LIMIT.get();
+        
+        this.LOG_BLOCKS_BREAKING = config.LOG_BLOCKS_BREAKING.get();
+        this.LOG_BLOCKS_PLACING = config.LOG_BLOCKS_PLACING.get();
+        
+        this.DO_DEATH_CHESTS = config.DO_DEATH_CHESTS.get();
+        this.MAX_DEATH_SCAN = config.MAX_DEATH_SCAN.get();
+        this.MAX_DEATH_ELEVATION = config.MAX_DEATH_ELEVATION.get();
+        this.PRINT_DEATH_CHEST_LOC = config.PRINT_DEATH_CHEST_LOC.get();
+        
+        this.PVP_DISABLE_DEATH_CHEST = config.PVP_DISABLE_DEATH_CHEST.get();
+        this.PVP_COMBAT_SECONDS = config.PVP_COMBAT_SECONDS.get();
+        
+        this.DO_SLEEP_VOTE = config.DO_SLEEP_VOTE.get();
+        this.SLEEP_PERCENT = config.SLEEP_PERCENT.get();
+        
+        this.EXTINGUISH_CAMPFIRES = config.EXTINGUISH_CAMPFIRES.get();
+        this.SPAWNER_ABSORB_MOBS = config.SPAWNER_ABSORB_MOBS.get();
+    }
+    
+}
@@ -29,6 +29,7 @@ import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
 import com.google.gson.JsonParser;
 import net.TheElm.project.CoreMod;
 import net.TheElm.project.objects.ChatFormat;
@@ -40,7 +41,6 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.io.File;
-import java.io.FileNotFoundException;
 import java.io.FileReader;
 import java.io.FileWriter;
 import java.io.IOException;
@@ -60,8 +60,14 @@ public final class SewingMachineConfig {
         INSTANCE = new SewingMachineConfig();
     }
     
+    // Writes the config file
+    private static final Gson GSON = new GsonBuilder().setPrettyPrinting().serializeNulls().disableHtmlEscaping().create();
+    
     private final List<ConfigBase> configOptions = new ArrayList<>();
     
+    // The values read most often, replaced all at once on reload
+    private volatile ConfigSnapshot snapshot;
+    
     // Mod version
     public final ConfigOption<String> CONFIG_VERSION;
     
@@ -130,6 +136,7 @@ public final class SewingMachineConfig {
     
     // Players
     public final ConfigOption<Map<Item, Integer>> STARTING_ITEMS;
+    public final ConfigArray<String> STARTING_BOOKS;
     public final ConfigOption<Boolean> FRIEND_WHITELIST;
     
     public final ConfigOption<Boolean> START_WITH_RECIPES;
@@ -250,6 +257,7 @@ public final class SewingMachineConfig {
          * Starting items
          */
         this.STARTING_ITEMS = this.addConfig( new ConfigOption<>("player.starting_items", new HashMap<>(), this::getItemMap));
+        this.STARTING_BOOKS = this.addConfig( new ConfigArray<>("player.starting_books", JsonElement::getAsString));
         
         /*
          * Death chests
@@ -411,11 +419,17 @@ public final class SewingMachineConfig {
         }
         
         this.fileExists = ((config != null) && config.exists());
+        if (this.snapshot == null)
+            this.snapshot = new ConfigSnapshot( this );
     }
     
     public final boolean preExisting() {
         return this.fileExists;
     }
+    @NotNull
+    public final ConfigSnapshot snapshot() {
+        return this.snapshot;
+    }
     public final @Nullable JsonElement reload() throws IOException {
         return this.reload(this.getConfigFile());
     }
@@ -423,7 +437,11 @@ public final class SewingMachineConfig {
         CoreMod.logInfo( "Loading configuration file." );
         
         //Read the existing config
-        return this.loadFromJSON(this.loadFromFile(config));
+        JsonElement loaded = this.loadFromJSON(this.loadFromFile(config));
+        
+        // Publish the new values together
+        this.snapshot = new ConfigSnapshot( this );
+        return loaded;
     }
     
     private <T> ConfigOption<T> addConfig( ConfigOption<T> config ) {
@@ -459,20 +477,22 @@ public final class SewingMachineConfig {
     }
     
     private void saveToFile(File configFile, JsonElement json) throws IOException {
-        // GSON Parser
-        Gson gson = new GsonBuilder().setPrettyPrinting().serializeNulls().disableHtmlEscaping().create();
-        
         try (FileWriter fw = new FileWriter(configFile)) {
-            fw.append(gson.toJson(sortObject( json )));
+            fw.append(GSON.toJson(sortObject( json )));
         }
     }
-    private JsonObject loadFromFile(File configFile) throws FileNotFoundException {
+    private JsonObject loadFromFile(File configFile) throws IOException {
         JsonParser jp = new JsonParser();
-        JsonElement element = jp.parse(new FileReader(configFile));
-        return element.getAsJsonObject();
+        try (FileReader reader = new FileReader(configFile)) {
+            return jp.parse(reader).getAsJsonObject();
+        } catch (JsonParseException | IllegalStateException e) {
+            throw new IOException("Config file is not valid JSON", e);
+        }
     }
     
-    private JsonElement loadFromJSON(JsonObject json) {
+    private JsonElement loadFromJSON(JsonObject json) throws IOException {
+        // Parse every value before applying any of them
+        List<Runnable> changes = new ArrayList<>();
         for ( ConfigBase config : this.configOptions ) {
             JsonObject inner = json;
             String[] path = config.getPath().split("\\.");
@@ -491,12 +511,19 @@ public final class SewingMachineConfig {
             }
             
             // Set value for config (From file)
-            if ( inner.has(path[p]) )
-                config.set(inner.get(path[p]), true);
-            else
+            if ( inner.has(path[p]) ) {
+                try {
+                    changes.add(config.stage(inner.get(path[p]), true));
+                } catch (RuntimeException e) {
+                    throw new IOException("Invalid config value for \"" + config.getPath() + "\"", e);
+                }
+            } else
                 inner.add( path[p], config.getElement() );
         }
         
+        for (Runnable change : changes)
+            change.run();
+        
         return json;
     }
     private JsonObject saveToJSON() {
@@ -25,7 +25,6 @@
 
 package net.TheElm.project.enums;
 
-import com.google.gson.JsonSyntaxException;
 import com.mojang.datafixers.util.Either;
 import net.TheElm.project.CoreMod;
 import net.TheElm.project.config.SewingMachineConfig;
@@ -37,6 +36,7 @@ import net.TheElm.project.interfaces.IClaimedChunk;
 import net.TheElm.project.interfaces.PlayerData;
 import net.TheElm.project.interfaces.ShopSignBlockEntity;
 import net.TheElm.project.objects.PlayerBackpack;
+import net.TheElm.project.objects.TransferPlan;
 import net.TheElm.project.protections.BlockDistance;
 import net.TheElm.project.protections.claiming.ClaimantPlayer;
 import net.TheElm.project.protections.claiming.ClaimantTown;
@@ -58,9 +58,6 @@ import net.minecraft.block.entity.ChestBlockEntity;
 import net.minecraft.block.entity.LootableContainerBlockEntity;
 import net.minecraft.block.entity.SignBlockEntity;
 import net.minecraft.inventory.Inventory;
-import net.minecraft.item.ItemStack;
-import net.minecraft.item.Items;
-import net.minecraft.nbt.CompoundTag;
 import net.minecraft.network.MessageType;
 import net.minecraft.server.MinecraftServer;
 import net.minecraft.server.network.ServerPlayerEntity;
@@ -80,8 +77,6 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.text.NumberFormat;
-import java.util.ArrayList;
-import java.util.List;
 
 public enum ShopSigns {
     /*
@@ -133,7 +128,7 @@ public enum ShopSigns {
                 return Either.left(TranslatableServerSide.text(player, "shop.error.database"));
             
             // Check if the attached chest exists
-            if (CoreMod.spawnID.equals(sign.getShopOwner()) || ((chest = this.getAttachedChest( player.getEntityWorld(), signPos )) != null)) {
+            if (CoreMod.spawnID.equals(sign.getShopOwner()) || ((chest = this.getAttachedChest( player.getEntityWorld(), signPos, sign )) != null)) {
                 if (player.getUuid().equals(sign.getShopOwner()))
                     return Either.left(TranslatableServerSide.text(player, "shop.error.self_sell"));
                 /*
@@ -145,12 +140,17 @@ public enum ShopSigns {
                     // If the chest is open
                     if (ChestBlockEntity.getPlayersLookingInChestCount( player.getEntityWorld(), chest.getPos() ) > 0)
                         return Either.left(TranslatableServerSide.text(player, "shop.error.chest_open"));
-                    // If player does not have any of item
-                    if (player.inventory.countInInv(sign.getShopItem()) < sign.getShopItemCount())
-                        return Either.left(TranslatableServerSide.text(player, "shop.error.stock_player", sign.getShopItemDisplay()));
                 }
+                
+                // Plan moving the players items into the chest
+                TransferPlan plan = TransferPlan.plan( player.inventory, chestInventory, sign.getShopItem(), sign.getShopItemCount() );
+                if (!plan.hasStock())
+                    return Either.left(TranslatableServerSide.text(player, "shop.error.stock_player", sign.getShopItemDisplay()));
+                if (!plan.isComplete())
+                    return Either.left(TranslatableServerSide.text(player, "shop.error.space_chest", sign.getShopItemDisplay()));
+                
                 /*
-                 * Transfer the items from chest to player
+                 * Transfer the items from player to chest
                  */
                 try {
                     // Take shop keepers money
@@ -158,15 +158,8 @@ public enum ShopSigns {
                         return Either.left(TranslatableServerSide.text(player, "shop.error.money_chest"));
                     
                     // Put players item into chest
-                    if (!InventoryUtils.playerToChest( player, signPos, player.inventory, chestInventory, sign.getShopItem(), sign.getShopItemCount(), true )) {
-                        // Refund the shopkeeper
-                        if (!(sign.getShopOwner().equals(CoreMod.spawnID))) {
-                            MoneyUtils.givePlayerMoney(sign.getShopOwner(), sign.getShopItemPrice());
-                        }
-                        
-                        // Error message
-                        return Either.left(TranslatableServerSide.text(player, "shop.error.stock_player", sign.getShopItemDisplay()));
-                    }
+                    plan.commit();
+                    InventoryUtils.playTransferSound( player.getServerWorld(), signPos );
                     
                     // Give player money for item
                     MoneyUtils.givePlayerMoney(player, sign.getShopItemPrice());
@@ -257,7 +250,7 @@ public enum ShopSigns {
                 return Either.right( true );
             
             // Check if the attached chest exists
-            if (CoreMod.spawnID.equals(sign.getShopOwner()) || ((chest = this.getAttachedChest( player.getEntityWorld(), signPos )) != null)) {
+            if (CoreMod.spawnID.equals(sign.getShopOwner()) || ((chest = this.getAttachedChest( player.getEntityWorld(), signPos, sign )) != null)) {
                 if (player.getUuid().equals(sign.getShopOwner()))
                     return Either.left(TranslatableServerSide.text(player, "shop.error.self_buy"));
                 
@@ -274,24 +267,23 @@ public enum ShopSigns {
                     // If the chest is open
                     if (ChestBlockEntity.getPlayersLookingInChestCount(player.getEntityWorld(), chest.getPos()) > 0)
                         return Either.left(TranslatableServerSide.text(player, "shop.error.chest_open"));
-                    // If there is not enough of item in chest
-                    if (chest.countInInv(sign.getShopItem()) < sign.getShopItemCount())
-                        return Either.left(TranslatableServerSide.text(player, "shop.error.stock_chest", sign.getShopItemDisplay()));
                 }
                 
+                // Plan moving the chests items to the player
+                TransferPlan plan = TransferPlan.plan( chestInventory, player.inventory, sign.getShopItem(), sign.getShopItemCount() );
+                if (!plan.hasStock())
+                    return Either.left(TranslatableServerSide.text(player, "shop.error.stock_chest", sign.getShopItemDisplay()));
+                if (!plan.isComplete())
+                    return Either.left(TranslatableServerSide.text(player, "shop.error.space_player", sign.getShopItemDisplay()));
+                
                 try {
                     // Take the players money
                     if (!MoneyUtils.takePlayerMoney(player, sign.getShopItemPrice()))
                         return Either.left(TranslatableServerSide.text(player, "shop.error.money_player"));
                     
                     // Give item to player from chest
-                    if (!InventoryUtils.chestToPlayer( player, signPos, chestInventory, player.inventory, sign.getShopItem(), sign.getShopItemCount(), true )) {
-                        // Refund the player
-                        MoneyUtils.givePlayerMoney(player, sign.getShopItemPrice());
-                        
-                        // Error message
-                        return Either.left(TranslatableServerSide.text(player, "shop.error.stock_chest", sign.getShopItemDisplay()));
-                    }
+                    plan.commit();
+                    InventoryUtils.playTransferSound( player.getServerWorld(), signPos );
                     
                     player.playSound( SoundEvents.ENTITY_ITEM_PICKUP, SoundCategory.BLOCKS, 1.0f, 1.0f );
                     
@@ -381,7 +373,7 @@ public enum ShopSigns {
                 return Either.right( true );
             
             // Check if the attached chest exists
-            if (CoreMod.spawnID.equals(sign.getShopOwner()) || ((chest = this.getAttachedChest( player.getEntityWorld(), signPos )) != null)) {
+            if (CoreMod.spawnID.equals(sign.getShopOwner()) || ((chest = this.getAttachedChest( player.getEntityWorld(), signPos, sign )) != null)) {
                 if (player.getUuid().equals(sign.getShopOwner()))
                     return Either.left(new LiteralText("Cannot buy items from yourself."));
     
@@ -398,15 +390,18 @@ public enum ShopSigns {
                     // If the chest is open
                     if (ChestBlockEntity.getPlayersLookingInChestCount(player.getEntityWorld(), chest.getPos()) > 0)
                         return Either.left(new LiteralText("Cannot do that while chest is open."));
-                    // If there is not enough of item in chest
-                    if (chest.countInInv(sign.getShopItem()) < sign.getShopItemCount()) {
-                        return Either.left(new LiteralText("Chest is out of " + sign.getShopItemDisplay() + "."));
-                    }
                 }
                 
-                // Give item to player from chest
-                if (!InventoryUtils.chestToPlayer( player, signPos, chestInventory, player.inventory, sign.getShopItem(), sign.getShopItemCount(), true ))
+                // Plan moving the chests items to the player
+                TransferPlan plan = TransferPlan.plan( chestInventory, player.inventory, sign.getShopItem(), sign.getShopItemCount() );
+                if (!plan.hasStock())
                     return Either.left(new LiteralText("Chest is out of " + sign.getShopItemDisplay() + "."));
+                if (!plan.isComplete())
+                    return Either.left(TranslatableServerSide.text(player, "shop.error.space_player", sign.getShopItemDisplay()));
+                
+                // Give item to player from chest
+                plan.commit();
+                InventoryUtils.playTransferSound( player.getServerWorld(), signPos );
                 
                 ClaimantPlayer permissions = ClaimantPlayer.get( sign.getShopOwner() );
                 
@@ -820,23 +815,11 @@ public enum ShopSigns {
             
             // Get the guidebook
             GuideUtils guide;
-            try {
-                if ((guide = GuideUtils.getBook(bookRawTitle.toLowerCase())) == null)
-                    return Either.right( false );
-            } catch (JsonSyntaxException e) {
-                CoreMod.logError( e );
-                return Either.left(new LiteralText("An error occurred getting that guide."));
-            }
-            
-            // Create the object
-            ItemStack book = new ItemStack( Items.WRITTEN_BOOK );
-            CompoundTag nbt = book.getOrCreateTag();
-            
-            // Write the guide data to NBT
-            guide.writeCustomDataToTag( nbt );
+            if ((guide = GuideUtils.getBook(bookRawTitle)) == null)
+                return Either.right( false );
             
             // Give the player the book
-            player.giveItemStack( book );
+            player.giveItemStack( guide.newStack() );
             player.playSound( SoundEvents.ENTITY_ITEM_PICKUP, SoundCategory.BLOCKS, 1.0f, 1.0f );
             return Either.right( true );
         }
@@ -941,27 +924,38 @@ public enum ShopSigns {
     public final Formatting[] getFormatting() {
         return this.formattings;
     }
+    public final LootableContainerBlockEntity getAttachedChest(final World world, final BlockPos signPos, final ShopSignBlockEntity sign) {
+        LootableContainerBlockEntity container;
+        
+        // Use the container that was found last time
+        if ((container = sign.getCachedContainer()) != null)
+            return container;
+        
+        sign.setCachedContainer( container = this.getAttachedChest( world, signPos ) );
+        return container;
+    }
     public final LootableContainerBlockEntity getAttachedChest(final World world, final BlockPos signPos) {
-        List<BlockPos> checkPositions = new ArrayList<>();
+        LootableContainerBlockEntity container;
         
-        // Add the blockPos BELOW the sign
-        checkPositions.add( signPos.offset(Direction.DOWN, 1) );
+        // Check the blockPos BELOW the sign
+        if ((container = this.getContainerAt( world, signPos.offset(Direction.DOWN, 1) )) != null)
+            return container;
         
-        // Add the blockPos BEHIND the sign
+        // Check the blockPos BEHIND the sign
         BlockState signBlockState = world.getBlockState( signPos );
         if ( signBlockState.getBlock() instanceof WallSignBlock ) {
             Direction signFacing = signBlockState.get(HorizontalFacingBlock.FACING).getOpposite();
-            checkPositions.add(signPos.offset(signFacing, 1));
-        }
-        
-        for ( BlockPos blockPos : checkPositions ) {
-            BlockEntity checkBlockEntity = world.getBlockEntity( blockPos );
-            if ( checkBlockEntity instanceof ChestBlockEntity || checkBlockEntity instanceof BarrelBlockEntity ) {
-                return (LootableContainerBlockEntity) checkBlockEntity;
-            }
+            return this.getContainerAt( world, signPos.offset(signFacing, 1) );
         }
         return null;
     }
+    @Nullable
+    private LootableContainerBlockEntity getContainerAt(final World world, final BlockPos blockPos) {
+        BlockEntity checkBlockEntity = world.getBlockEntity( blockPos );
+        if ( checkBlockEntity instanceof ChestBlockEntity || checkBlockEntity instanceof BarrelBlockEntity )
+            return (LootableContainerBlockEntity) checkBlockEntity;
+        return null;
+    }
     protected final LootableContainerBlockEntity getAttachedChest(@NotNull final ShopSignBuilder signBuilder) {
         return this.getAttachedChest( signBuilder.getSign().getWorld(), signBuilder.getSign().getPos() );
     }
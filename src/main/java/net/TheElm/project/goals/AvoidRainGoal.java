@@ -25,6 +25,8 @@
 
 package net.TheElm.project.goals;
 
+import net.TheElm.project.interfaces.CoverWorld;
+import net.TheElm.project.objects.CoverMap;
 import net.minecraft.entity.ai.goal.Goal;
 import net.minecraft.entity.mob.MobEntityWithAi;
 import net.minecraft.entity.passive.TameableEntity;
@@ -40,6 +42,7 @@ public class AvoidRainGoal extends Goal {
     // Mob information
     protected final MobEntityWithAi mob;
     private final World world;
+    private final CoverMap coverMap;
     
     // Get the position to move toward
     private double targetX;
@@ -49,6 +52,7 @@ public class AvoidRainGoal extends Goal {
     public AvoidRainGoal(MobEntityWithAi mob) {
         this.mob = mob;
         this.world = mob.world;
+        this.coverMap = ((CoverWorld) mob.world).getCoverMap();
     }
     
     @Override
@@ -60,12 +64,12 @@ public class AvoidRainGoal extends Goal {
         if ((this.mob instanceof TameableEntity) && ((TameableEntity) this.mob).isSitting())
             return false;
         Box box = this.mob.getBoundingBox();
-        // If mob isn't visible to the sky
-        if (!this.world.isSkyVisible(new BlockPos(this.mob.getX(), Math.min( box.y1, box.y2 ), this.mob.getZ())))
-            return false;
         // Don't ALWAYS do it (Save the CPU!)
         if (this.mob.getRandom().nextInt(120) != 0)
             return false;
+        // If mob is already under cover
+        if (this.coverMap.isCovered(this.world, new BlockPos(this.mob.getX(), Math.min( box.y1, box.y2 ), this.mob.getZ())))
+            return false;
         // Find cover
         return this.mob.isTouchingWaterOrRain() && this.foundCover( locateCover() );
     }
@@ -92,9 +96,15 @@ public class AvoidRainGoal extends Goal {
         Box box = this.mob.getBoundingBox();
         BlockPos blockPos = new BlockPos(this.mob.getX(), Math.min( box.y1, box.y2 ), this.mob.getZ());
         
+        // Go to the nearest shelter that another mob has already found
+        BlockPos goalPos = this.coverMap.getKnownShelter(this.world, blockPos, 10, 3, this::isShelter);
+        if (goalPos != null)
+            return new Vec3d((double)goalPos.getX(), (double)goalPos.getY(), (double)goalPos.getZ());
+        
         for( int i = 0; i < 10; ++i ) {
-            BlockPos goalPos = blockPos.add( rand.nextInt(20) - 10, rand.nextInt(6) - 3, rand.nextInt(20) - 10 );
-            if (!this.world.isSkyVisible(goalPos) && (!this.world.isWater(goalPos)) && this.mob.getPathfindingFavor(goalPos) < 0.0F) {
+            goalPos = blockPos.add( rand.nextInt(20) - 10, rand.nextInt(6) - 3, rand.nextInt(20) - 10 );
+            if (this.coverMap.isCovered(this.world, goalPos) && this.isShelter(goalPos)) {
+                this.coverMap.addShelter(this.world, goalPos);
                 return new Vec3d((double)goalPos.getX(), (double)goalPos.getY(), (double)goalPos.getZ());
             }
         }
@@ -102,4 +112,8 @@ public class AvoidRainGoal extends Goal {
         return null;
     }
     
+    private boolean isShelter(BlockPos blockPos) {
+        return (!this.world.isWater(blockPos)) && this.mob.getPathfindingFavor(blockPos) < 0.0F;
+    }
+    
 }
@@ -25,11 +25,14 @@
 
 package net.TheElm.project.goals;
 
+import net.TheElm.project.interfaces.GrazingWorld;
+import net.TheElm.project.objects.GrazingMap;
 import net.minecraft.block.Block;
 import net.minecraft.block.Blocks;
 import net.minecraft.entity.ai.goal.Goal;
 import net.minecraft.entity.mob.MobEntity;
 import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.MathHelper;
 import net.minecraft.world.GameRules;
 import net.minecraft.world.World;
 
@@ -38,11 +41,13 @@ import java.util.EnumSet;
 public class EatMyceliumGoal extends Goal {
     private final MobEntity mob;
     private final World world;
+    private final GrazingMap grazingMap;
     private int timer;
     
     public EatMyceliumGoal(MobEntity mobEntity) {
         this.mob = mobEntity;
         this.world = mobEntity.world;
+        this.grazingMap = ((GrazingWorld) mobEntity.world).getGrazingMap();
         this.setControls(EnumSet.of(Control.MOVE, Control.LOOK, Control.JUMP));
     }
     
@@ -50,8 +55,14 @@ public class EatMyceliumGoal extends Goal {
         if (this.mob.getRandom().nextInt( 50 ) != 0) {
             return false;
         } else {
-            BlockPos blockPos = new BlockPos(this.mob);
-            return this.world.getBlockState(blockPos.down()).getBlock() == Blocks.MYCELIUM;
+            int x = MathHelper.floor(this.mob.getX());
+            int y = MathHelper.floor(this.mob.getY()) - 1;
+            int z = MathHelper.floor(this.mob.getZ());
+            
+            // Skip the block lookup if there is no mycelium around
+            if (!this.grazingMap.mayHaveMycelium(this.world, x, y, z))
+                return false;
+            return this.world.getBlockState(new BlockPos(x, y, z)).getBlock() == Blocks.MYCELIUM;
         }
     }
     
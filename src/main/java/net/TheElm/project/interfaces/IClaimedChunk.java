@@ -31,6 +31,7 @@ import net.TheElm.project.exceptions.TranslationKeyException;
 import net.TheElm.project.protections.claiming.ClaimantPlayer;
 import net.TheElm.project.protections.claiming.ClaimantTown;
 import net.minecraft.entity.player.PlayerEntity;
+import net.minecraft.nbt.CompoundTag;
 import net.minecraft.nbt.ListTag;
 import net.minecraft.text.Text;
 import net.minecraft.util.math.BlockPos;
@@ -67,9 +68,10 @@ public interface IClaimedChunk extends Chunk {
     /*
      * Claim Slices
      */
-    @NotNull
-    ListTag serializeSlices();
-    void deserializeSlices(@NotNull ListTag serialized);
+    @Nullable
+    CompoundTag serializeSlices();
+    void deserializeSlices(@NotNull CompoundTag serialized);
+    void deserializeSlices(@NotNull ListTag serialized); // Older format
     
     void updateSliceOwner(UUID owner, int slicePos);
     void updateSliceOwner(UUID owner, int slicePos, int yFrom, int yTo);
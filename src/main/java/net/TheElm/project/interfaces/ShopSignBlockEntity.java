@@ -26,6 +26,7 @@
 package net.TheElm.project.interfaces;
 
 import net.TheElm.project.enums.ShopSigns;
+import net.minecraft.block.entity.LootableContainerBlockEntity;
 import net.minecraft.inventory.Inventory;
 import net.minecraft.item.Item;
 import net.minecraft.text.Text;
@@ -60,4 +61,8 @@ public interface ShopSignBlockEntity {
     @Nullable
     ShopSigns getShopType();
     
+    @Nullable
+    LootableContainerBlockEntity getCachedContainer();
+    void setCachedContainer(@Nullable LootableContainerBlockEntity container);
+    
 }
@@ -25,6 +25,8 @@
 
 package net.TheElm.project.mixins.Blocks;
 
+import net.TheElm.project.interfaces.DormantFurnace;
+import net.TheElm.project.utilities.FurnaceUtils;
 import net.minecraft.block.AbstractFurnaceBlock;
 import net.minecraft.block.entity.AbstractFurnaceBlockEntity;
 import net.minecraft.block.entity.BlockEntityType;
@@ -49,9 +51,10 @@ import org.spongepowered.asm.mixin.Shadow;
 import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
 
 @Mixin(AbstractFurnaceBlockEntity.class)
-public abstract class AbstractFurnace extends LockableContainerBlockEntity implements SidedInventory, RecipeUnlocker, RecipeInputProvider, Tickable {
+public abstract class AbstractFurnace extends LockableContainerBlockEntity implements SidedInventory, RecipeUnlocker, RecipeInputProvider, Tickable, DormantFurnace {
     
     protected AbstractFurnace(BlockEntityType<?> blockEntityType) {
         super(blockEntityType);
@@ -60,6 +63,7 @@ public abstract class AbstractFurnace extends LockableContainerBlockEntity imple
     private Item cachedRecipeIngredient = null;
     private Recipe<?> cachedRecipe = null;
     private boolean isRecipeDirty = true;
+    private boolean isDormant = false;
     
     @Shadow private native boolean isBurning();
     @Shadow protected native int getFuelTime(ItemStack itemStack);
@@ -83,6 +87,10 @@ public abstract class AbstractFurnace extends LockableContainerBlockEntity imple
      */
     @Overwrite
     public void tick() {
+        // Skip furnaces that are cold and can't start (Only ever set on the server)
+        if (this.isDormant)
+            return;
+        
         boolean wasBurning = this.isBurning(), // If WAS burning (before tick iteration)
             isBurning; // If is NOW burning (during tick iteration)
         boolean updateClient = false; // If we should update the client
@@ -92,6 +100,8 @@ public abstract class AbstractFurnace extends LockableContainerBlockEntity imple
         
         // Ignore on the client
         if (this.world == null || this.world.isClient) return;
+        if (this.world.getServer() != null)
+            FurnaceUtils.countActive( this.world.getServer().getTicks() );
         
         ItemStack fuelSourceStack = this.inventory.get(1);
         if ((!(isBurning = this.isBurning())) && (fuelSourceStack.isEmpty() || this.inventory.get(0).isEmpty())) {
@@ -151,11 +161,46 @@ public abstract class AbstractFurnace extends LockableContainerBlockEntity imple
         
         // Mark as send to client
         if (updateClient) this.markDirty();
+        
+        // Sleep when not burning and nothing is left to cool, until the inventory changes
+        if ((!isBurning) && (this.cookTime == 0))
+            this.setDormant( true );
     }
     
     @Inject(at = @At("TAIL"), method = "setInvStack")
     public void onInvUpdate(int pos, ItemStack itemStack, CallbackInfo callback) {
         if (pos == 0) this.isRecipeDirty = true;
+        this.setDormant( false );
+    }
+    @Inject(at = @At("TAIL"), method = {"takeInvStack", "removeInvStack"})
+    public void onInvRemove(CallbackInfoReturnable<ItemStack> callback) {
+        this.setDormant( false );
+    }
+    @Inject(at = @At("TAIL"), method = {"clear", "fromTag"})
+    public void onInvReset(CallbackInfo callback) {
+        this.setDormant( false );
+    }
+    @Override
+    public void markDirty() {
+        // Hoppers can grow existing stacks without setting the slot
+        this.setDormant( false );
+        super.markDirty();
+    }
+    @Override
+    public void markRemoved() {
+        // Stop counting broken furnaces as dormant
+        this.setDormant( false );
+        super.markRemoved();
+    }
+    @Override
+    public void setDormant(boolean dormant) {
+        if (this.isDormant == dormant)
+            return;
+        this.isDormant = dormant;
+        
+        // Only the server ever puts furnaces to sleep
+        if (dormant) FurnaceUtils.sleep();
+        else FurnaceUtils.wake();
     }
     
     private boolean canAcceptRecipeOutput() {
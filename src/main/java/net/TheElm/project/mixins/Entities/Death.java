@@ -66,7 +66,7 @@ public abstract class Death extends Entity {
     @Inject(at = @At("TAIL"), method = "onDeath")
     public void onDeath(DamageSource damageSource, CallbackInfo callback) {
         // If disabled
-        if (!SewingMachineConfig.INSTANCE.SPAWNER_ABSORB_MOBS.get())
+        if (!SewingMachineConfig.INSTANCE.snapshot().SPAWNER_ABSORB_MOBS)
             return;
         
         // If not dead or is player
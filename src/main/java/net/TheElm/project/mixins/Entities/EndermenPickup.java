@@ -28,6 +28,7 @@ package net.TheElm.project.mixins.Entities;
 import net.TheElm.project.enums.ClaimSettings;
 import net.TheElm.project.interfaces.EndermanGoal;
 import net.TheElm.project.interfaces.IClaimedChunk;
+import net.TheElm.project.protections.claiming.ChunkOwners;
 import net.minecraft.block.Block;
 import net.minecraft.block.BlockState;
 import net.minecraft.entity.ai.goal.Goal;
@@ -43,7 +44,6 @@ import net.minecraft.util.math.MathHelper;
 import net.minecraft.util.math.Vec3d;
 import net.minecraft.world.RayTraceContext;
 import net.minecraft.world.World;
-import net.minecraft.world.chunk.WorldChunk;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Shadow;
 
@@ -85,11 +85,14 @@ public abstract class EndermenPickup extends Goal implements EndermanGoal {
         // If the block is able to be held my endermen
         if (block.matches(BlockTags.ENDERMAN_HOLDABLE) && bool) {
             
-            // Get the chunk permissions
-            WorldChunk chunk = world.getWorldChunk( blockPos );
+            // Get the chunk permissions (Without loading neighboring chunks)
+            // Endermen leave blocks in chunks that aren't loaded alone, rather than acting unprotected
+            IClaimedChunk chunk = ChunkOwners.getLoadedChunk( world, blockPos );
+            if (chunk == null)
+                return;
             
             // Check if enderman griefing is allowed (Invert because FALSE == NOT ALLOWED)
-            if ((chunk != null) && (!((IClaimedChunk) chunk).isSetting( blockPos, ClaimSettings.ENDERMAN_GRIEFING ))) {
+            if (!chunk.isSetting( blockPos, ClaimSettings.ENDERMAN_GRIEFING )) {
                 this.sadEnderman();
                 return;
             }
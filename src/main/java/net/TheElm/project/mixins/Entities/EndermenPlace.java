@@ -28,6 +28,7 @@ package net.TheElm.project.mixins.Entities;
 import net.TheElm.project.enums.ClaimSettings;
 import net.TheElm.project.interfaces.EndermanGoal;
 import net.TheElm.project.interfaces.IClaimedChunk;
+import net.TheElm.project.protections.claiming.ChunkOwners;
 import net.minecraft.block.BlockState;
 import net.minecraft.entity.ai.goal.Goal;
 import net.minecraft.entity.mob.EndermanEntity;
@@ -36,7 +37,6 @@ import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.MathHelper;
 import net.minecraft.world.IWorld;
 import net.minecraft.world.WorldView;
-import net.minecraft.world.chunk.WorldChunk;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Shadow;
 
@@ -73,11 +73,14 @@ public abstract class EndermenPlace extends Goal implements EndermanGoal {
         
         if (carriedBlock != null && this.method_7033(iWorld, blockPositionPlace, carriedBlock, blockStatePlace, blockStateGround, blockPositionGround)) {
             
-            // Get the chunk permissions
-            WorldChunk chunk = iWorld.getWorld().getWorldChunk( blockPositionPlace );
+            // Get the chunk permissions (Without loading neighboring chunks)
+            // Endermen leave blocks in chunks that aren't loaded alone, rather than acting unprotected
+            IClaimedChunk chunk = ChunkOwners.getLoadedChunk( iWorld.getWorld(), blockPositionPlace );
+            if (chunk == null)
+                return;
             
             // Check if enderman griefing is allowed (Invert because FALSE == NOT ALLOWED)
-            if ((chunk != null) && (!((IClaimedChunk) chunk).isSetting( blockPositionPlace, ClaimSettings.ENDERMAN_GRIEFING ))) {
+            if (!chunk.isSetting( blockPositionPlace, ClaimSettings.ENDERMAN_GRIEFING )) {
                 this.sadEnderman();
                 return;
             }
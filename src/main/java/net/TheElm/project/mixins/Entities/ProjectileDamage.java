@@ -28,6 +28,7 @@ package net.TheElm.project.mixins.Entities;
 import net.TheElm.project.enums.ClaimPermissions;
 import net.TheElm.project.enums.ClaimSettings;
 import net.TheElm.project.interfaces.IClaimedChunk;
+import net.TheElm.project.protections.claiming.ChunkOwners;
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.EntityType;
 import net.minecraft.entity.LivingEntity;
@@ -39,7 +40,6 @@ import net.minecraft.sound.SoundEvent;
 import net.minecraft.util.hit.EntityHitResult;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.World;
-import net.minecraft.world.chunk.WorldChunk;
 import org.jetbrains.annotations.Nullable;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Shadow;
@@ -72,9 +72,8 @@ public abstract class ProjectileDamage extends Entity {
             return;
         
         // Get the chunk that the player was harmed in
-        WorldChunk chunk = hitEntity.getEntityWorld().getWorldChunk( hitEntity.getBlockPos() );
-        if ( ( chunk != null ) && ( this.getOwner() instanceof ServerPlayerEntity ) ) {
-            IClaimedChunk chunkInfo = (IClaimedChunk) chunk;
+        IClaimedChunk chunkInfo = ChunkOwners.getLoadedChunk( hitEntity.getEntityWorld(), hitEntity.getBlockPos() );
+        if ( ( chunkInfo != null ) && ( this.getOwner() instanceof ServerPlayerEntity ) ) {
             ServerPlayerEntity owner = (ServerPlayerEntity) this.getOwner();
             
             // If player hurt themselves
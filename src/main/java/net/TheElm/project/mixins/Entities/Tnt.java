@@ -25,12 +25,13 @@
 
 package net.TheElm.project.mixins.Entities;
 
-import net.TheElm.project.interfaces.IClaimedChunk;
 import net.TheElm.project.interfaces.OwnableEntity;
+import net.TheElm.project.protections.claiming.ChunkOwners;
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.EntityType;
 import net.minecraft.entity.LivingEntity;
 import net.minecraft.entity.TntEntity;
+import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.World;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -46,6 +47,7 @@ import java.util.UUID;
 public abstract class Tnt extends Entity implements OwnableEntity {
     
     private UUID entityOwner = null;
+    private boolean entityOwnerResolved = false;
     @Nullable @Shadow
     private LivingEntity causingEntity;
     
@@ -53,15 +55,31 @@ public abstract class Tnt extends Entity implements OwnableEntity {
         super(entityType_1, world_1);
     }
     
-    @Inject(at = @At("RETURN"), method = "<init>*")
-    public void onConstruct(CallbackInfo callback) {
+    @Inject(at = @At("RETURN"), method = "<init>(Lnet/minecraft/world/World;DDDLnet/minecraft/entity/LivingEntity;)V")
+    public void onConstruct(World world, double x, double y, double z, @Nullable LivingEntity igniter, CallbackInfo callback) {
         // Update the causing entity
-        if (this.causingEntity != null)
+        if (this.causingEntity != null) {
             this.entityOwner = this.causingEntity.getUuid();
-        else {
-            IClaimedChunk claimed = (IClaimedChunk) this.world.getWorldChunk( this.getBlockPos() );
-            this.entityOwner = claimed.getOwner();
-        }
+            this.entityOwnerResolved = true;
+        } else this.resolveChunkOwner();
+    }
+    
+    @Inject(at = @At("HEAD"), method = "tick")
+    public void onTick(CallbackInfo callback) {
+        // TNT loaded from NBT, or primed in an unloaded chunk, is stamped once it ticks
+        if (!this.entityOwnerResolved)
+            this.resolveChunkOwner();
+    }
+    
+    private void resolveChunkOwner() {
+        BlockPos blockPos = this.getBlockPos();
+        
+        // Never load a chunk to find out who owns it
+        if (!ChunkOwners.isResolvable( this.world, blockPos ))
+            return;
+        
+        this.entityOwner = ChunkOwners.getOwner( this.world, blockPos );
+        this.entityOwnerResolved = true;
     }
     
     @Override @NotNull
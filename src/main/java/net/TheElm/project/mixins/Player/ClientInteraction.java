@@ -33,12 +33,15 @@ import net.TheElm.project.interfaces.IClaimedChunk;
 import net.TheElm.project.interfaces.PlayerChat;
 import net.TheElm.project.interfaces.PlayerData;
 import net.TheElm.project.interfaces.PlayerMovement;
+import net.TheElm.project.objects.MuteRegistry;
 import net.TheElm.project.protections.claiming.ClaimantPlayer;
 import net.TheElm.project.protections.claiming.ClaimantTown;
 import net.TheElm.project.utilities.CasingUtils;
 import net.TheElm.project.utilities.ChunkUtils;
+import net.TheElm.project.utilities.GuideUtils;
 import net.TheElm.project.utilities.MessageUtils;
 import net.TheElm.project.utilities.MoneyUtils;
+import net.TheElm.project.utilities.PlayerNameUtils;
 import net.TheElm.project.utilities.TitleUtils;
 import net.TheElm.project.utilities.TranslatableServerSide;
 import net.minecraft.entity.boss.ServerBossBar;
@@ -121,7 +124,8 @@ public abstract class ClientInteraction implements ServerPlayPacketListener, Pla
         CoreMod.PLAYER_LOCATIONS.put( player, null );
         
         // Initialize user claims from database
-        this.playerClaimData = ( SewingMachineConfig.INSTANCE.DO_CLAIMS.get() ? ClaimantPlayer.get( player.getUuid() ) : null );
+        this.playerClaimData = ( SewingMachineConfig.INSTANCE.snapshot().DO_CLAIMS ? ClaimantPlayer.get( player.getUuid() ) : null );
+        if (this.playerClaimData != null) this.playerClaimData.acquire();
         
         // Check if server has been joined before
         if (((PlayerData) player).getFirstJoinAt() == null) {
@@ -140,6 +144,13 @@ public abstract class ClientInteraction implements ServerPlayPacketListener, Pla
                 player.inventory.offerOrDrop( player.world, stack );
             }
             
+            // Give the player the starting guide books
+            for (String bookName : SewingMachineConfig.INSTANCE.STARTING_BOOKS.get()) {
+                GuideUtils guide;
+                if ((guide = GuideUtils.getBook( bookName )) != null)
+                    player.inventory.offerOrDrop( player.world, guide.newStack() );
+            }
+            
             // Give the player all of the games recipes
             if (SewingMachineConfig.INSTANCE.START_WITH_RECIPES.get()) {
                 Collection<Recipe<?>> recipes = server.getRecipeManager().values();
@@ -176,6 +187,9 @@ public abstract class ClientInteraction implements ServerPlayPacketListener, Pla
         
         // Always update join time to NOW
         ((PlayerData) player).updateLastJoin();
+        
+        // Save the name the player joined with
+        PlayerNameUtils.updatePlayer( player );
     }
     
     // On player move
@@ -200,6 +214,12 @@ public abstract class ClientInteraction implements ServerPlayPacketListener, Pla
         // Remove players from the health bar when disconnecting
         // (Don't have floating health bars remaining on-screen)
         this.getHealthBar().clearPlayers();
+        
+        // Allow the players claim to leave the cache
+        if (this.playerClaimData != null) this.playerClaimData.release();
+        
+        // Forget the players mutes (Saved with their player data by the PlayerManager)
+        MuteRegistry.unload( this.player.getUuid() );
     }
     
     // Change the chat format
@@ -236,7 +256,7 @@ public abstract class ClientInteraction implements ServerPlayPacketListener, Pla
     }
     
     public void movedPlayer( final ServerPlayerEntity player ) {
-        if (!SewingMachineConfig.INSTANCE.DO_CLAIMS.get())
+        if (!SewingMachineConfig.INSTANCE.snapshot().DO_CLAIMS)
             return;
         
         World world = player.getEntityWorld();
@@ -74,7 +74,7 @@ public abstract class DeathChest extends LivingEntity implements MoneyHolder {
      */
     @Inject(at = @At("HEAD"), method = "dropInventory", cancellable = true)
     public void onInventoryDrop(CallbackInfo callback) {
-        if (!SewingMachineConfig.INSTANCE.DO_DEATH_CHESTS.get())
+        if (!SewingMachineConfig.INSTANCE.snapshot().DO_DEATH_CHESTS)
             return;
         
         // Only do if we're not keeping the inventory, and the player is actually dead! (Death Chest!)
@@ -82,7 +82,7 @@ public abstract class DeathChest extends LivingEntity implements MoneyHolder {
             BlockPos chestPos;
             
             // Check if player is in combat
-            if (SewingMachineConfig.INSTANCE.PVP_DISABLE_DEATH_CHEST.get() && (this.hitByOtherPlayerAt != null)) {
+            if (SewingMachineConfig.INSTANCE.snapshot().PVP_DISABLE_DEATH_CHEST && (this.hitByOtherPlayerAt != null)) {
                 // Tell the player that they didn't get a death chest
                 this.sendMessage(new LiteralText("A death chest was not generated because you died in combat.").formatted(Formatting.RED));
                 
@@ -114,7 +114,7 @@ public abstract class DeathChest extends LivingEntity implements MoneyHolder {
     @Inject(at = @At("TAIL"), method = "tick")
     public void onTick(CallbackInfo callback) {
         if ((!this.world.isClient) && ((Entity) this) instanceof ServerPlayerEntity) {
-            if (this.hitByOtherPlayerAt != null && (this.hitByOtherPlayerAt < System.currentTimeMillis() - (SewingMachineConfig.INSTANCE.PVP_COMBAT_SECONDS.get() * 1000))) {
+            if (this.hitByOtherPlayerAt != null && (this.hitByOtherPlayerAt < System.currentTimeMillis() - (SewingMachineConfig.INSTANCE.snapshot().PVP_COMBAT_SECONDS * 1000))) {
                 // Remove player from combat
                 this.hitByOtherPlayerAt = null;
                 
@@ -133,7 +133,7 @@ public abstract class ArmorStand extends LivingEntity implements PlayerCorpse {
         }
         
         // Player is in creative
-        if ((player.isCreative() && SewingMachineConfig.INSTANCE.CLAIM_CREATIVE_BYPASS.get())
+        if ((player.isCreative() && SewingMachineConfig.INSTANCE.snapshot().CLAIM_CREATIVE_BYPASS)
             || player.isSpectator()
             // If player can loot armor stand
             || ChunkUtils.canPlayerLootChestsInChunk(player, this.getBlockPos()))
@@ -57,7 +57,7 @@ public abstract class HorseRide extends HorseBaseEntity {
     @Inject(at = @At("HEAD"), method = "interactMob", cancellable = true)
     private void tryHorseMount(PlayerEntity player, Hand hand, CallbackInfoReturnable<Boolean> callback) {
         // If the player is in creative, allow
-        if ((player.isCreative() && SewingMachineConfig.INSTANCE.CLAIM_CREATIVE_BYPASS.get()) || player.isSpectator())
+        if ((player.isCreative() && SewingMachineConfig.INSTANCE.snapshot().CLAIM_CREATIVE_BYPASS) || player.isSpectator())
             return;
         
         // If player owns the horse, allow
@@ -55,7 +55,7 @@ public abstract class MinecartRide extends AbstractMinecartEntity {
     @Inject(at = @At("HEAD"), method = "interact", cancellable = true)
     private void tryMinecartEnter(PlayerEntity player, Hand hand, CallbackInfoReturnable<Boolean> callback) {
         // Player is in creative
-        if ((player.isCreative() && SewingMachineConfig.INSTANCE.CLAIM_CREATIVE_BYPASS.get()) || player.isSpectator())
+        if ((player.isCreative() && SewingMachineConfig.INSTANCE.snapshot().CLAIM_CREATIVE_BYPASS) || player.isSpectator())
             return;
         
         // If player can enter Minecart
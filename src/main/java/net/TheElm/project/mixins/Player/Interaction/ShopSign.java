@@ -28,10 +28,12 @@ package net.TheElm.project.mixins.Player.Interaction;
 import net.TheElm.project.CoreMod;
 import net.TheElm.project.enums.ShopSigns;
 import net.TheElm.project.interfaces.ShopSignBlockEntity;
+import net.TheElm.project.objects.ShopIndex;
 import net.TheElm.project.utilities.ShopSignBuilder;
 import net.fabricmc.fabric.api.util.NbtType;
 import net.minecraft.block.entity.BlockEntity;
 import net.minecraft.block.entity.BlockEntityType;
+import net.minecraft.block.entity.LootableContainerBlockEntity;
 import net.minecraft.block.entity.SignBlockEntity;
 import net.minecraft.entity.player.PlayerEntity;
 import net.minecraft.item.Item;
@@ -52,6 +54,7 @@ import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
 
+import java.lang.ref.WeakReference;
 import java.util.UUID;
 
 @Mixin(SignBlockEntity.class)
@@ -78,6 +81,11 @@ public abstract class ShopSign extends BlockEntity implements ShopSignBlockEntit
     private BlockPos shopSign_posA = null;
     private BlockPos shopSign_posB = null;
     
+    // Resolved from the above, so that trades don't have to look them up again
+    private Item shopSign_resolvedItem = null;
+    private Text shopSign_resolvedDisplay = null;
+    private WeakReference<LootableContainerBlockEntity> shopSign_container = null;
+    
     /*
      * Mixin Getters
      */
@@ -93,14 +101,13 @@ public abstract class ShopSign extends BlockEntity implements ShopSignBlockEntit
     
     @Override @Nullable
     public Item getShopItem() {
-        Item tradeItem;
-        if (( tradeItem = Registry.ITEM.get( this.shopSign_item ) ) != Items.AIR )
-            return tradeItem;
-        return null;
+        return this.shopSign_resolvedItem;
     }
     @Override @Nullable
     public Text getShopItemDisplay() {
-        return new TranslatableText(Registry.ITEM.get( this.shopSign_item ).getTranslationKey());
+        if (this.shopSign_resolvedDisplay == null)
+            return null;
+        return this.shopSign_resolvedDisplay.deepCopy();
     }
     @Override @Nullable
     public Integer getShopItemCount() {
@@ -125,6 +132,35 @@ public abstract class ShopSign extends BlockEntity implements ShopSignBlockEntit
         return this.shopSign_Type;
     }
     
+    @Override @Nullable
+    public LootableContainerBlockEntity getCachedContainer() {
+        LootableContainerBlockEntity container;
+        if ((this.shopSign_container == null) || ((container = this.shopSign_container.get()) == null))
+            return null;
+        
+        // Forget containers that were broken or unloaded
+        if (container.isInvalid()) {
+            this.shopSign_container = null;
+            return null;
+        }
+        return container;
+    }
+    @Override
+    public void setCachedContainer(@Nullable LootableContainerBlockEntity container) {
+        this.shopSign_container = (container == null ? null : new WeakReference<>( container ));
+    }
+    
+    private void resolveShopItem() {
+        Item tradeItem;
+        if ((this.shopSign_item == null) || ((tradeItem = Registry.ITEM.get( this.shopSign_item )) == Items.AIR)) {
+            this.shopSign_resolvedItem = null;
+            this.shopSign_resolvedDisplay = null;
+        } else {
+            this.shopSign_resolvedItem = tradeItem;
+            this.shopSign_resolvedDisplay = new TranslatableText(tradeItem.getTranslationKey());
+        }
+    }
+    
     /*
      * Constructor
      */
@@ -160,6 +196,7 @@ public abstract class ShopSign extends BlockEntity implements ShopSignBlockEntit
                 // Update the parameters here from the builder
                 this.shopSign_Owner = builder.shopOwner();
                 this.shopSign_item = builder.getItem();
+                this.resolveShopItem();
                 
                 this.shopSign_itemCount = builder.itemSize();
                 this.shopSign_itemPrice = builder.shopPrice();
@@ -168,6 +205,9 @@ public abstract class ShopSign extends BlockEntity implements ShopSignBlockEntit
                     this.shopSign_posA = builder.regionPosA();
                     this.shopSign_posB = builder.regionPosB();
                 }
+                
+                // Add the shop to the worlds index
+                ShopIndex.track( this.getWorld(), this.getPos(), this );
             }
         }
     }
@@ -211,6 +251,7 @@ public abstract class ShopSign extends BlockEntity implements ShopSignBlockEntit
                 } catch (InvalidIdentifierException e) {
                     CoreMod.logError("Could not find item \"" + signItem + "\" for shop sign.", e);
                 }
+                this.resolveShopItem();
             }
             
             // Get the BLOCK POSITIONS for deed
@@ -78,7 +78,7 @@ public abstract class TamedLead extends LivingEntity {
         ServerPlayerEntity player = (ServerPlayerEntity) entity;
         
         // If player is in creative mode, bypass permissions
-        if ((player.isCreative() && SewingMachineConfig.INSTANCE.CLAIM_CREATIVE_BYPASS.get()) || player.isSpectator())
+        if ((player.isCreative() && SewingMachineConfig.INSTANCE.snapshot().CLAIM_CREATIVE_BYPASS) || player.isSpectator())
             return;
         
         // If player is the owner of the entity
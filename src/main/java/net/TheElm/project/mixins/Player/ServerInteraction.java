@@ -32,6 +32,7 @@ import net.TheElm.project.interfaces.BlockInteractionCallback;
 import net.TheElm.project.interfaces.ItemUseCallback;
 import net.TheElm.project.interfaces.PlayerChat;
 import net.TheElm.project.interfaces.PlayerPermissions;
+import net.TheElm.project.objects.MuteRegistry;
 import net.TheElm.project.protections.ranks.PlayerRank;
 import net.TheElm.project.utilities.RankUtils;
 import net.minecraft.block.BedBlock;
@@ -63,9 +64,6 @@ import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
 
-import java.util.HashSet;
-import java.util.UUID;
-
 @Mixin(ServerPlayerInteractionManager.class)
 public abstract class ServerInteraction implements PlayerPermissions, PlayerChat {
     
@@ -76,7 +74,6 @@ public abstract class ServerInteraction implements PlayerPermissions, PlayerChat
      * Chat Handlers
      */
     private ChatRooms chatRoom = ChatRooms.GLOBAL;
-    private HashSet<UUID> mutedPlayers = new HashSet<>();
     private boolean isGlobalMuted = false;
     
     @Override @NotNull
@@ -99,10 +96,7 @@ public abstract class ServerInteraction implements PlayerPermissions, PlayerChat
     }
     @Override
     public boolean toggleMute(GameProfile player) {
-        UUID uuid = player.getId();
-        if (!this.mutedPlayers.remove(uuid))
-            return this.mutedPlayers.add(uuid);
-        else return false;
+        return MuteRegistry.toggle( this.player.getUuid(), player.getId() );
     }
     @Override
     public boolean isMuted() {
@@ -110,7 +104,7 @@ public abstract class ServerInteraction implements PlayerPermissions, PlayerChat
     }
     @Override
     public boolean isMuted(GameProfile player) {
-        return this.mutedPlayers.contains(player.getId());
+        return MuteRegistry.isMuted( this.player.getUuid(), player.getId() );
     }
     
     /*
@@ -39,10 +39,12 @@ import net.TheElm.project.interfaces.PlayerChat;
 import net.TheElm.project.interfaces.PlayerData;
 import net.TheElm.project.interfaces.PlayerPermissions;
 import net.TheElm.project.interfaces.PlayerServerLanguage;
+import net.TheElm.project.objects.MuteRegistry;
 import net.TheElm.project.objects.PlayerBackpack;
 import net.TheElm.project.protections.claiming.ClaimantPlayer;
 import net.TheElm.project.protections.ranks.PlayerRank;
 import net.TheElm.project.utilities.NbtUtils;
+import net.TheElm.project.utilities.PlayerNameUtils;
 import net.TheElm.project.utilities.RankUtils;
 import net.TheElm.project.utilities.SleepUtils;
 import net.fabricmc.fabric.api.util.NbtType;
@@ -76,11 +78,11 @@ import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
 
+import java.util.ArrayList;
 import java.util.Calendar;
-import java.util.HashSet;
+import java.util.Collection;
 import java.util.List;
 import java.util.Locale;
-import java.util.Set;
 
 @Mixin(ServerPlayerEntity.class)
 public abstract class WorldInteraction extends PlayerEntity implements PlayerData, PlayerPermissions, BackpackCarrier, PlayerServerLanguage, Nicknamable, PlayerChat {
@@ -91,7 +93,6 @@ public abstract class WorldInteraction extends PlayerEntity implements PlayerDat
     @Shadow private boolean notInAnyWorld;
     
     // Health bar
-    private int healthTick = 0;
     @Nullable
     private ServerBossBar healthBar = null;
     
@@ -135,39 +136,43 @@ public abstract class WorldInteraction extends PlayerEntity implements PlayerDat
      */
     @Inject(at = @At("TAIL"), method = "tick")
     public void onTick(CallbackInfo callback) {
-        if ((this.healthBar != null) && (!this.notInAnyWorld) && ((++this.healthTick) >= 60)) {
+        // Players check their health bars on different ticks, by their entity ID
+        if ((this.healthBar != null) && (!this.notInAnyWorld) && (((this.world.getTime() + this.getEntityId()) % 60) == 0)) {
             // Get players from the health bar
-            Set<ServerPlayerEntity> enemies = new HashSet<>(this.healthBar.getPlayers());
+            Collection<ServerPlayerEntity> enemies = this.healthBar.getPlayers();
             
             // Remove players from the healthbar
             if (!enemies.isEmpty()) {
-                // Get the area around the player
-                Box searchRegion = new Box(
-                    new BlockPos(this.getX() + 20, this.getY() + 10, this.getZ() + 20),
-                    new BlockPos(this.getX() - 20, this.getY() - 10, this.getZ() - 20)
-                );
-                
                 // Get local players
                 if (!this.isAlive())
                     this.healthBar.clearPlayers();
                 else {
-                    List<ServerPlayerEntity> players = this.world.getEntities(ServerPlayerEntity.class, searchRegion, (nearby) -> (!nearby.getUuid().equals(this.getUuid())));
+                    // Get the area around the player
+                    Box searchRegion = new Box(
+                        new BlockPos(this.getX() + 20, this.getY() + 10, this.getZ() + 20),
+                        new BlockPos(this.getX() - 20, this.getY() - 10, this.getZ() - 20)
+                    );
                     
-                    // Remove all locale players
-                    enemies.removeAll(players);
+                    // Only the players already watching need to be checked (Dropping any that left or respawned)
+                    List<ServerPlayerEntity> distant = null;
+                    for (ServerPlayerEntity enemy : enemies) {
+                        if ((!enemy.removed) && (enemy.networkHandler != null) && enemy.networkHandler.getConnection().isOpen()
+                            && (enemy.world == this.world) && searchRegion.intersects(enemy.getBoundingBox()))
+                            continue;
+                        if (distant == null)
+                            distant = new ArrayList<>();
+                        distant.add(enemy);
+                    }
                     
                     // Remove if not nearby
-                    if (!enemies.isEmpty()) {
-                        for (ServerPlayerEntity enemy : enemies) this.healthBar.removePlayer(enemy);
+                    if (distant != null) {
+                        for (ServerPlayerEntity enemy : distant) this.healthBar.removePlayer(enemy);
                     }
                 }
                 
                 // Set the health percentage
                 this.updateHealthBar();
             }
-            
-            // Reset the tick
-            this.healthTick = 0;
         }
     }
     @Inject(at = @At("TAIL"), method = "onDeath")
@@ -317,7 +322,7 @@ public abstract class WorldInteraction extends PlayerEntity implements PlayerDat
     
     @Inject(at = @At("RETURN"), method = "trySleep")
     public void onBedEntered(final BlockPos blockPos, final CallbackInfoReturnable<Either<PlayerEntity.SleepFailureReason, Unit>> callback) {
-        if (!SewingMachineConfig.INSTANCE.DO_SLEEP_VOTE.get())
+        if (!SewingMachineConfig.INSTANCE.snapshot().DO_SLEEP_VOTE)
             return;
         
         // If player is unable to sleep, ignore
@@ -360,7 +365,7 @@ public abstract class WorldInteraction extends PlayerEntity implements PlayerDat
     
     @Inject(at = @At("RETURN"), method = "wakeUp")
     public void onBedEjected(final boolean sleepTimer, final boolean leftBed, final CallbackInfo callback) {
-        if (!SewingMachineConfig.INSTANCE.DO_SLEEP_VOTE.get())
+        if (!SewingMachineConfig.INSTANCE.snapshot().DO_SLEEP_VOTE)
             return;
         
         // If player woke up naturally, ignore.
@@ -422,6 +427,9 @@ public abstract class WorldInteraction extends PlayerEntity implements PlayerDat
         }
         
         tag.putBoolean("chatMuted", this.isMuted());
+        
+        // Store the players personally muted players
+        tag.put("chatMutedPlayers", MuteRegistry.toTag( this.getUuid() ));
     }
     @Inject(at = @At("TAIL"), method = "readCustomDataFromTag")
     public void onReadingData(CompoundTag tag, CallbackInfo callback) {
@@ -472,6 +480,10 @@ public abstract class WorldInteraction extends PlayerEntity implements PlayerDat
         // Read if player is muted
         if (tag.contains("chatMuted", NbtType.BYTE))
             this.toggleMute(tag.getBoolean("chatMuted"));
+        
+        // Read the players personally muted players
+        if (tag.contains("chatMutedPlayers", NbtType.LIST))
+            MuteRegistry.fromTag( this.getUuid(), tag.getList("chatMutedPlayers", NbtType.COMPOUND) );
     }
     @Inject(at = @At("TAIL"), method = "copyFrom")
     public void onCopyData(ServerPlayerEntity player, boolean alive, CallbackInfo callback) {
@@ -509,6 +521,7 @@ public abstract class WorldInteraction extends PlayerEntity implements PlayerDat
     @Override
     public void setPlayerNickname(@Nullable Text nickname) {
         this.playerNickname = nickname;
+        PlayerNameUtils.updateNickname( this.getUuid(), nickname );
     }
     @Nullable @Override
     public Text getPlayerNickname() {
@@ -25,19 +25,30 @@
 
 package net.TheElm.project.mixins.Server;
 
+import com.google.common.collect.MapMaker;
 import net.fabricmc.fabric.api.util.NbtType;
 import net.minecraft.item.WritableBookItem;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.nbt.ListTag;
+import net.minecraft.nbt.Tag;
+import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Overwrite;
 
-import java.nio.charset.StandardCharsets;
+import java.util.Map;
 
 @Mixin(WritableBookItem.class)
 public class Books {
     
+    private static final int MAX_BOOK_BYTES = 12800;
+    
+    /*
+     * Verdicts of previously checked page lists, weakly keyed by identity.
+     * The value packs a fingerprint of the page tags with the verdict in the lowest bit.
+     */
+    private static final Map<ListTag, Long> VERDICTS = new MapMaker().weakKeys().makeMap();
+    
     /**
      * @author TheElm
      * @reason To fix the chunk saving bug
@@ -51,16 +62,55 @@ public class Books {
         if (!compound.contains("pages", NbtType.LIST))
             return false;
         
-        int bytes = 0;
         ListTag pages = compound.getList("pages", NbtType.STRING);
         
+        // Page tags are immutable, so a changed page means a changed fingerprint
+        long fingerprint = Books.fingerprint( pages );
+        
+        Long verdict;
+        if (((verdict = VERDICTS.get( pages )) != null) && ((verdict >>> 1) == fingerprint))
+            return (verdict & 1L) == 1L;
+        
+        boolean valid = Books.withinByteLimit( pages );
+        VERDICTS.put( pages, (fingerprint << 1) | (valid ? 1L : 0L) );
+        
+        return valid;
+    }
+    
+    private static long fingerprint(@NotNull ListTag pages) {
+        long hash = pages.size();
+        for (Tag page : pages)
+            hash = (hash * 31) + System.identityHashCode( page );
+        return hash & Long.MAX_VALUE;
+    }
+    
+    private static boolean withinByteLimit(@NotNull ListTag pages) {
+        int bytes = 0;
+        
         // Iterate pages
-        for(int i = 0; i < pages.size(); ++i) {
+        for (int i = 0; i < pages.size(); ++i) {
             String page = pages.getString(i);
+            int length = page.length();
             
-            // If the ByteSize has added up to exceeding the max book length
-            if ((bytes += page.getBytes(StandardCharsets.UTF_8).length) > 12800)
-                return false;
+            // Count the UTF-8 encoded size without encoding the page
+            for (int c = 0; c < length; ++c) {
+                char character = page.charAt(c);
+                if (character < 0x80)
+                    bytes += 1;
+                else if (character < 0x800)
+                    bytes += 2;
+                else if (Character.isHighSurrogate(character) && ((c + 1) < length) && Character.isLowSurrogate(page.charAt(c + 1))) {
+                    bytes += 4;
+                    ++c;
+                } else if (Character.isSurrogate(character))
+                    bytes += 1; // Unpaired surrogates are encoded as '?'
+                else
+                    bytes += 3;
+                
+                // If the ByteSize has added up to exceeding the max book length
+                if (bytes > MAX_BOOK_BYTES)
+                    return false;
+            }
         }
         
         return true;
@@ -0,0 +1,69 @@
+/*
+ * This software is licensed under the MIT License
+ * https://github.com/GStefanowich/MC-Server-Protection
+ *
+ * Copyright (c) 2019 Gregory Stefanowich
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package net.TheElm.project.mixins.Server;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import net.TheElm.project.interfaces.PreEncodedPacket;
+import net.minecraft.client.network.packet.ChatMessageS2CPacket;
+import net.minecraft.util.PacketByteBuf;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+
+import java.io.IOException;
+
+@Mixin(ChatMessageS2CPacket.class)
+public abstract class ChatPacket implements PreEncodedPacket {
+    
+    private ByteBuf preEncoded = null;
+    
+    @Shadow
+    public abstract void write(PacketByteBuf buf) throws IOException;
+    
+    @Override
+    public void preEncode() throws IOException {
+        PacketByteBuf buf = new PacketByteBuf(Unpooled.buffer());
+        this.write( buf );
+        
+        // Only use the bytes once they are completely written
+        this.preEncoded = buf;
+    }
+    
+    @Inject(at = @At("HEAD"), method = "write", cancellable = true)
+    private void onWrite(PacketByteBuf buf, CallbackInfo callback) {
+        ByteBuf encoded;
+        if ((encoded = this.preEncoded) == null)
+            return;
+        
+        // Copy without moving the shared buffers reader index (Read by multiple connections)
+        buf.writeBytes( encoded, encoded.readerIndex(), encoded.readableBytes() );
+        callback.cancel();
+    }
+    
+}
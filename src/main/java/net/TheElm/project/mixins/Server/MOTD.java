@@ -32,7 +32,7 @@ import io.netty.buffer.Unpooled;
 import net.TheElm.project.CoreMod;
 import net.TheElm.project.ServerCore;
 import net.TheElm.project.config.SewingMachineConfig;
-import net.TheElm.project.utilities.CasingUtils;
+import net.TheElm.project.objects.TextTemplate;
 import net.TheElm.project.utilities.FormattingUtils;
 import net.TheElm.project.utilities.SleepUtils;
 import net.minecraft.SharedConstants;
@@ -43,6 +43,8 @@ import net.minecraft.text.Text;
 import net.minecraft.world.Difficulty;
 import net.minecraft.world.dimension.DimensionType;
 import org.apache.commons.lang3.Validate;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Shadow;
 import org.spongepowered.asm.mixin.injection.At;
@@ -61,18 +63,27 @@ import java.util.Base64;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ThreadLocalRandom;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 import java.util.stream.StreamSupport;
 
 @Mixin(ServerMetadata.class)
 public abstract class MOTD {
     
+    // How often the MOTD variables are read again
+    private static final long MOTD_REFRESH_MILLIS = 5000;
+    
     private final Map<String, Callable<String>> motdVariables = new HashMap<>();
     private final List<CharBuffer> base64 = new ArrayList<>();
     
+    // Each configured MOTD parsed once, and rendered once per refresh
+    private final Map<String, TextTemplate> motdTemplates = new ConcurrentHashMap<>();
+    private final Map<String, Optional<Text>> motdRendered = new ConcurrentHashMap<>();
+    private volatile Map<String, String> motdValues = null;
+    private volatile long motdSampledAt = 0;
+    
     @Shadow private ServerMetadata.Players players;
     @Shadow private ServerMetadata.Version version;
     
@@ -136,13 +147,19 @@ public abstract class MOTD {
         List<String> configMOTD = SewingMachineConfig.INSTANCE.SERVER_MOTD_LIST.get();
         if (configMOTD.size() <= 0) return;
         
-        // Get the formatted MOTD
-        String raw = descriptionReplaceVariables(SewingMachineConfig.INSTANCE.SERVER_MOTD_LIST.getRandom());
-        if (raw != null) {
-            Text motd = FormattingUtils.stringToText(raw);
-            if (motd != null)
-                callback.setReturnValue(motd);
+        // Read the variables again once the refresh is up
+        long now = System.currentTimeMillis();
+        if ((now - this.motdSampledAt) >= MOTD_REFRESH_MILLIS) {
+            this.motdSampledAt = now;
+            this.motdValues = this.sampleVariables();
+            this.motdRendered.clear();
         }
+        
+        // Get the formatted MOTD
+        String raw = SewingMachineConfig.INSTANCE.SERVER_MOTD_LIST.getRandom();
+        if (raw == null) return;
+        this.motdRendered.computeIfAbsent(raw, this::renderDescription)
+            .ifPresent(callback::setReturnValue);
     }
     
     @Inject(at = @At("HEAD"), method = "getFavicon", cancellable = true)
@@ -153,36 +170,25 @@ public abstract class MOTD {
         callback.setReturnValue("data:image/png;base64," + random);
     }
     
-    private String descriptionReplaceVariables(String description) {
-        if (description != null) {
-            // For all keys
-            for (Map.Entry<String, Callable<String>> row : this.motdVariables.entrySet()) {
-                // If description contains
-                Pattern pattern = Pattern.compile("\\$\\{(" + row.getKey() + "[\\^_]{0,2})}");
-                Matcher matcher = pattern.matcher(description);
-                
-                while (matcher.find()) {
-                    String key = matcher.group(1);
-                    String val;
-                    try {
-                        val = row.getValue().call();
-                        if (val == null) continue;
-                        
-                        // Change val casing
-                        if (key.endsWith("__"))
-                            val = CasingUtils.Lower(val);
-                        else if (key.endsWith("^^"))
-                            val = CasingUtils.Upper(val);
-                        else if (key.endsWith("^"))
-                            val = CasingUtils.Words(val);
-                        
-                    } catch (Exception e) { CoreMod.logError(new Exception("Error in MOTD variable \"" + row.getKey() + "\"", e)); return null; }
-                    // Replace
-                    description = description.replace("${" + key + "}", val);
-                }
-            }
+    @Nullable
+    private Map<String, String> sampleVariables() {
+        Map<String, String> values = new HashMap<>();
+        for (Map.Entry<String, Callable<String>> row : this.motdVariables.entrySet()) {
+            try {
+                String val = row.getValue().call();
+                if (val != null)
+                    values.put(row.getKey(), val);
+            } catch (Exception e) { CoreMod.logError(new Exception("Error in MOTD variable \"" + row.getKey() + "\"", e)); return null; }
         }
-        return description;
+        return values;
+    }
+    private Optional<Text> renderDescription(@NotNull String description) {
+        Map<String, String> values = this.motdValues;
+        if (values == null)
+            return Optional.empty();
+        
+        TextTemplate template = this.motdTemplates.computeIfAbsent(description, TextTemplate::parse);
+        return Optional.ofNullable(FormattingUtils.stringToText(template.render(values)));
     }
     
 }
@@ -26,10 +26,12 @@
 package net.TheElm.project.mixins.Server;
 
 import net.TheElm.project.CoreMod;
+import net.TheElm.project.objects.ShopIndex;
 import net.TheElm.project.protections.claiming.Claimant;
 import net.TheElm.project.protections.claiming.ClaimantPlayer;
 import net.TheElm.project.protections.claiming.ClaimantTown;
 import net.TheElm.project.protections.logging.EventLogger;
+import net.TheElm.project.utilities.PlayerNameUtils;
 import net.minecraft.server.MinecraftServer;
 import net.minecraft.server.ServerTask;
 import net.minecraft.server.command.CommandOutput;
@@ -48,6 +50,12 @@ public abstract class Save extends ReentrantThreadExecutor<ServerTask> implement
         super(string_1);
     }
     
+    @Inject(at = @At("HEAD"), method = "loadWorld")
+    public void loadWorld(CallbackInfo callback) {
+        // Read the shop index before any chunks can change it
+        ShopIndex.load();
+    }
+    
     @Inject(at = @At("RETURN"), method = "save")
     public void save(boolean silent, boolean boolean_2, boolean boolean_3, CallbackInfoReturnable<Boolean> callback) {
         if (callback.getReturnValue()) {
@@ -56,6 +64,13 @@ public abstract class Save extends ReentrantThreadExecutor<ServerTask> implement
             
             if (!silent) CoreMod.logInfo("Saving claimed town data");
             CoreMod.getCacheStream(ClaimantTown.class).forEach(Claimant::save);
+            
+            // Drop claimants that are no longer in use
+            int evicted = CoreMod.evictClaimants();
+            if ((!silent) && (evicted > 0)) CoreMod.logInfo("Unloaded " + evicted + " unused claims");
+            
+            PlayerNameUtils.save();
+            ShopIndex.save();
         }
     }
     
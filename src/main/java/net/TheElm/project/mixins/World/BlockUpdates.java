@@ -0,0 +1,98 @@
+/*
+ * This software is licensed under the MIT License
+ * https://github.com/GStefanowich/MC-Server-Protection
+ *
+ * Copyright (c) 2019 Gregory Stefanowich
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package net.TheElm.project.mixins.World;
+
+import net.TheElm.project.interfaces.CampfireWorld;
+import net.TheElm.project.interfaces.CoverWorld;
+import net.TheElm.project.interfaces.GrazingWorld;
+import net.TheElm.project.interfaces.ShopWorld;
+import net.TheElm.project.objects.CampfireRegistry;
+import net.TheElm.project.objects.CoverMap;
+import net.TheElm.project.objects.GrazingMap;
+import net.TheElm.project.objects.ShopIndex;
+import net.minecraft.block.AbstractSignBlock;
+import net.minecraft.block.BlockState;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.IWorld;
+import net.minecraft.world.World;
+import org.jetbrains.annotations.NotNull;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
+
+@Mixin(World.class)
+public abstract class BlockUpdates implements IWorld, CampfireWorld, CoverWorld, GrazingWorld, ShopWorld {
+    
+    private CampfireRegistry campfires = null;
+    private CoverMap coverMap = null;
+    private GrazingMap grazingMap = null;
+    private ShopIndex.WorldShops shops = null;
+    
+    @Override @NotNull
+    public CampfireRegistry getCampfires() {
+        if (this.campfires == null)
+            this.campfires = new CampfireRegistry();
+        return this.campfires;
+    }
+    
+    @Override @NotNull
+    public CoverMap getCoverMap() {
+        if (this.coverMap == null)
+            this.coverMap = new CoverMap();
+        return this.coverMap;
+    }
+    
+    @Override @NotNull
+    public GrazingMap getGrazingMap() {
+        if (this.grazingMap == null)
+            this.grazingMap = new GrazingMap();
+        return this.grazingMap;
+    }
+    
+    @Override @NotNull
+    public ShopIndex.WorldShops getShopIndex() {
+        if (this.shops == null)
+            this.shops = ShopIndex.get( ((World)(Object) this).dimension.getType() );
+        return this.shops;
+    }
+    
+    @Inject(at = @At("RETURN"), method = "setBlockState(Lnet/minecraft/util/math/BlockPos;Lnet/minecraft/block/BlockState;I)Z")
+    public void onBlockChanged(BlockPos blockPos, BlockState blockState, int flags, CallbackInfoReturnable<Boolean> callback) {
+        if (!callback.getReturnValue())
+            return;
+        if (this.campfires != null)
+            this.campfires.onBlockChanged( blockPos );
+        if (this.coverMap != null)
+            this.coverMap.onBlockChanged( blockPos );
+        if (this.grazingMap != null)
+            this.grazingMap.onBlockChanged( blockPos, blockState );
+        // Signs that are still signs are still shops
+        if ((!((World)(Object) this).isClient) && (!(blockState.getBlock() instanceof AbstractSignBlock)))
+            this.getShopIndex().onBlockChanged( blockPos );
+    }
+    
+}
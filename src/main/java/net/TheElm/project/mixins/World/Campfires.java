@@ -26,16 +26,13 @@
 package net.TheElm.project.mixins.World;
 
 import net.TheElm.project.config.SewingMachineConfig;
-import net.minecraft.block.BlockState;
+import net.TheElm.project.interfaces.CampfireWorld;
 import net.minecraft.block.CampfireBlock;
 import net.minecraft.block.entity.BlockEntity;
 import net.minecraft.block.entity.BlockEntityType;
 import net.minecraft.block.entity.CampfireBlockEntity;
-import net.minecraft.sound.SoundCategory;
-import net.minecraft.sound.SoundEvents;
 import net.minecraft.util.Clearable;
 import net.minecraft.util.Tickable;
-import net.minecraft.world.biome.Biome;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Inject;
@@ -44,20 +41,28 @@ import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 @Mixin(CampfireBlockEntity.class)
 public abstract class Campfires extends BlockEntity implements Clearable, Tickable {
     
+    // If the worlds campfire registry needs to be told about this campfire
+    private boolean isRegistryDirty = true;
+    
     public Campfires(BlockEntityType<?> blockEntityType) {
         super(blockEntityType);
     }
     
+    @Override
+    public void resetBlock() {
+        super.resetBlock();
+        
+        // The LIT state may have changed
+        this.isRegistryDirty = true;
+    }
+    
     @Inject(at = @At("TAIL"), method = "tick")
     public void onTick(CallbackInfo callback) {
-        if ((!this.world.isClient) && SewingMachineConfig.INSTANCE.EXTINGUISH_CAMPFIRES.get()) {
-            BlockState blockState = this.getCachedState();
-            boolean isLit = blockState.get(CampfireBlock.LIT);
-            // If RAINING, currently LIT, is in a raining BIOME, and VISIBLE TO SKY
-            if (this.world.isRaining() && isLit && (this.world.getBiome(this.getPos()).getPrecipitation() == Biome.Precipitation.RAIN) && this.world.isSkyVisible(this.getPos())) {
-                this.world.setBlockState(this.getPos(), blockState.with(CampfireBlock.LIT, false));
-                this.world.playSound( null, this.getPos(), SoundEvents.BLOCK_FIRE_EXTINGUISH, SoundCategory.BLOCKS, 1.0f, 1.0f );
-            }
+        if (this.isRegistryDirty && (!this.world.isClient) && SewingMachineConfig.INSTANCE.snapshot().EXTINGUISH_CAMPFIRES) {
+            // Update the registry, the world handles the rain
+            ((CampfireWorld) this.world).getCampfires()
+                .update( this.getPos(), this.getCachedState().get(CampfireBlock.LIT) );
+            this.isRegistryDirty = false;
         }
     }
     
@@ -56,13 +56,15 @@ public class ChunkSaving {
         if ( chunk instanceof WorldChunk ) {
             // If the chunk is Claimed, save that players ID
             UUID player, town;
+            CompoundTag slices;
             
             // Save the chunks owned-player
             if ((player = ((IClaimedChunk) chunk).getOwner()) != null)
                 levelTag.putUuid(sewingMachineSerializationPlayer, player);
             
             // Save the inner claims
-            levelTag.put(sewingMachineSerializationSlices, ((IClaimedChunk) chunk).serializeSlices());
+            if ((slices = ((IClaimedChunk) chunk).serializeSlices()) != null)
+                levelTag.put(sewingMachineSerializationSlices, slices);
             
             // Save the chunks town
             if ((town = ((IClaimedChunk) chunk).getTownId()) != null)
@@ -77,7 +79,9 @@ public class ChunkSaving {
             ((IClaimedChunk) chunk).updatePlayerOwner(levelTag.getUuid(sewingMachineSerializationPlayer));
         
         // Load the inner claims
-        if (levelTag.contains(sewingMachineSerializationSlices, NbtType.LIST))
+        if (levelTag.contains(sewingMachineSerializationSlices, NbtType.COMPOUND))
+            ((IClaimedChunk) chunk).deserializeSlices(levelTag.getCompound(sewingMachineSerializationSlices));
+        else if (levelTag.contains(sewingMachineSerializationSlices, NbtType.LIST))
             ((IClaimedChunk) chunk).deserializeSlices(levelTag.getList(sewingMachineSerializationSlices, NbtType.COMPOUND));
         
         // Update the chunks town
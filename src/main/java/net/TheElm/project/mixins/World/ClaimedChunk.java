@@ -25,15 +25,19 @@
 
 package net.TheElm.project.mixins.World;
 
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.longs.LongList;
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
 import net.TheElm.project.CoreMod;
 import net.TheElm.project.config.SewingMachineConfig;
 import net.TheElm.project.enums.ClaimPermissions;
-import net.TheElm.project.enums.ClaimRanks;
 import net.TheElm.project.enums.ClaimSettings;
 import net.TheElm.project.exceptions.NbtNotFoundException;
 import net.TheElm.project.exceptions.TranslationKeyException;
 import net.TheElm.project.interfaces.Claim;
 import net.TheElm.project.interfaces.IClaimedChunk;
+import net.TheElm.project.protections.claiming.ChunkOwners;
 import net.TheElm.project.protections.claiming.ClaimantPlayer;
 import net.TheElm.project.protections.claiming.ClaimantTown;
 import net.TheElm.project.utilities.ChunkUtils;
@@ -55,10 +59,15 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 
 import java.lang.ref.WeakReference;
+import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Set;
 import java.util.UUID;
 
@@ -66,11 +75,13 @@ import java.util.UUID;
 public abstract class ClaimedChunk implements IClaimedChunk, Chunk, Claim {
     
     @Shadow public abstract void markDirty();
+    @Shadow public abstract World getWorld();
     
     private final ClaimSlice[] claimSlices = new ClaimSlice[256];
     
     private WeakReference<ClaimantTown> chunkTown = null;
     private ClaimantPlayer chunkPlayer = null;
+    private boolean chunkReleased = false;
     
     public ClaimantTown updateTownOwner(@Nullable UUID owner) {
         ClaimantTown town = null;
@@ -89,9 +100,18 @@ public abstract class ClaimedChunk implements IClaimedChunk, Chunk, Claim {
         return (this.chunkTown = new WeakReference<>(town)).get();
     }
     public ClaimantPlayer updatePlayerOwner(@Nullable UUID owner) {
-        this.chunkPlayer = ( owner == null ? null : ClaimantPlayer.get( owner ));
+        ClaimantPlayer player = ( owner == null ? null : ClaimantPlayer.get( owner ));
+        if ((this.chunkPlayer != player) && (!this.chunkReleased)) {
+            // Keep the owner cached for as long as the chunk is
+            if (player != null) player.acquire();
+            if (this.chunkPlayer != null) this.chunkPlayer.release();
+        }
+        this.chunkPlayer = player;
         this.markDirty();
         
+        // Keep the owner lookup in sync
+        ChunkOwners.update( this.getWorld(), this.getPos(), owner );
+        
         // If there is no player owner, there is no town
         if (owner == null) {
             // Reset the inner slices (SHOULD NOT RESET SPAWN)
@@ -101,6 +121,18 @@ public abstract class ClaimedChunk implements IClaimedChunk, Chunk, Claim {
         return this.chunkPlayer;
     }
     
+    @Inject(at = @At("HEAD"), method = "setLoadedToWorld")
+    public void onLoadedToWorld(boolean loaded, CallbackInfo callback) {
+        if (this.chunkPlayer == null)
+            return;
+        // Release the owner when unloaded, and hold it again if reloaded
+        if (loaded && this.chunkReleased)
+            this.chunkPlayer.acquire();
+        else if ((!loaded) && (!this.chunkReleased))
+            this.chunkPlayer.release();
+        this.chunkReleased = !loaded;
+    }
+    
     public void resetSlices() {
         ClaimSlice slice;
         for (int i = 0; i < this.claimSlices.length; i++) {
@@ -168,7 +200,8 @@ public abstract class ClaimedChunk implements IClaimedChunk, Chunk, Claim {
             return;
         // Check claims limit
         ClaimantPlayer player = ClaimantPlayer.get( owner );
-        if ((SewingMachineConfig.INSTANCE.PLAYER_CLAIMS_LIMIT.get() == 0) || (((player.getCount() + 1) > player.getMaxChunkLimit()) && (SewingMachineConfig.INSTANCE.PLAYER_CLAIMS_LIMIT.get() > 0)))
+        int limit = SewingMachineConfig.INSTANCE.snapshot().PLAYER_CLAIMS_LIMIT;
+        if ((limit == 0) || (((player.getCount() + 1) > player.getMaxChunkLimit()) && (limit > 0)))
             throw new TranslationKeyException("claim.chunk.error.max");
     }
     
@@ -223,18 +256,9 @@ public abstract class ClaimedChunk implements IClaimedChunk, Chunk, Claim {
     
     @Override
     public boolean canPlayerDo(@Nullable UUID player, @NotNull ClaimPermissions perm) {
-        if (this.chunkPlayer == null || (player != null && player.equals(this.chunkPlayer.getId())))
-            return true;
-        ClaimantTown town;
-        if ( ((town = this.getTown()) != null ) && (player != null) && player.equals( town.getOwner() ) )
+        if (this.chunkPlayer == null)
             return true;
-        
-        // Get the ranks of the user and the rank required for performing
-        ClaimRanks userRank = this.chunkPlayer.getFriendRank( player );
-        ClaimRanks permReq = this.chunkPlayer.getPermissionRankRequirement( perm );
-        
-        // Return the test if the user can perform the action (If friend of chunk owner OR if friend of town and chunk owned by town owner)
-        return permReq.canPerform( userRank ) || ((town != null) && (this.chunkPlayer.getId().equals( town.getOwner() )) && permReq.canPerform(town.getFriendRank( player )));
+        return ChunkUtils.canPlayerDoInClaim( this.chunkPlayer, this.getTown(), player, perm );
     }
     @Override
     public boolean canPlayerDo(@NotNull BlockPos pos, @Nullable UUID player, @NotNull ClaimPermissions perm) {
@@ -256,49 +280,83 @@ public abstract class ClaimedChunk implements IClaimedChunk, Chunk, Claim {
                 .isSetting( setting );
     }
     
-    @Override @NotNull
-    public ListTag serializeSlices() {
-        ListTag serialized = new ListTag();
+    /*
+     * Inner claims are saved as a palette of owners, and one long for
+     * each claim holding the column, lower Y, upper Y, and owner index
+     */
+    private static final int SLICE_LOWER_SHIFT = 8;
+    private static final int SLICE_UPPER_SHIFT = 17;
+    private static final int SLICE_OWNER_SHIFT = 26;
+    private static final long SLICE_HEIGHT_MASK = 0x1FF;
+    
+    @Override @Nullable
+    public CompoundTag serializeSlices() {
+        List<UUID> owners = new ArrayList<>();
+        Object2IntMap<UUID> ownerIndexes = new Object2IntOpenHashMap<>();
+        ownerIndexes.defaultReturnValue(-1);
+        LongList claims = new LongArrayList();
+        
         ClaimSlice slice;
         for (int i = 0; i < this.claimSlices.length; i++) {
             // Slice must be defined
             if ((slice = this.claimSlices[i]) == null)
                 continue;
             
-            // Create a new tag to save the slice
-            CompoundTag sliceTag = new CompoundTag();
-            ListTag claimsTag = new ListTag();
-            
             // For all slice claims
-            Iterator<InnerClaim> claims = slice.getClaims();
-            while ( claims.hasNext() ) {
-                InnerClaim claim = claims.next();
+            Iterator<InnerClaim> iterator = slice.getClaims();
+            while ( iterator.hasNext() ) {
+                InnerClaim claim = iterator.next();
+                UUID owner = claim.getOwner();
                 
                 // If bottom of world, or no owner
-                if ((claim.lower() == -1) || (claim.getOwner() == null))
+                if ((claim.lower() == -1) || (owner == null))
                     continue;
                 
-                // Save data to the tag
-                CompoundTag claimTag = new CompoundTag();
-                claimTag.putUuid("owner", claim.getOwner());
-                claimTag.putInt("upper", claim.upper());
-                claimTag.putInt("lower", claim.lower());
+                // Add the owner to the palette
+                int index = ownerIndexes.getInt( owner );
+                if (index < 0) {
+                    ownerIndexes.put( owner, index = owners.size() );
+                    owners.add( owner );
+                }
                 
-                // Add tag to array
-                claimsTag.add(claimTag);
+                claims.add(((long) index << SLICE_OWNER_SHIFT)
+                    | ((long) claim.upper() << SLICE_UPPER_SHIFT)
+                    | ((long) claim.lower() << SLICE_LOWER_SHIFT)
+                    | i);
             }
-            
-            // Save data for slice
-            sliceTag.putInt("i", i);
-            sliceTag.put("claims", claimsTag);
-            
-            // Save the tag
-            serialized.add(sliceTag);
         }
         
+        // Unsliced chunks save nothing
+        if (claims.isEmpty())
+            return null;
+        
+        long[] palette = new long[owners.size() * 2];
+        for (int i = 0; i < owners.size(); i++) {
+            palette[i * 2] = owners.get(i).getMostSignificantBits();
+            palette[i * 2 + 1] = owners.get(i).getLeastSignificantBits();
+        }
+        
+        CompoundTag serialized = new CompoundTag();
+        serialized.putLongArray("owners", palette);
+        serialized.putLongArray("claims", claims.toLongArray());
         return serialized;
     }
     @Override
+    public void deserializeSlices(@NotNull CompoundTag serialized) {
+        long[] palette = serialized.getLongArray("owners");
+        for (long claim : serialized.getLongArray("claims")) {
+            int index = (int)(claim >>> SLICE_OWNER_SHIFT);
+            if ((index * 2 + 1) >= palette.length)
+                continue;
+            
+            UUID owner = new UUID( palette[index * 2], palette[index * 2 + 1] );
+            int upper = (int)((claim >>> SLICE_UPPER_SHIFT) & SLICE_HEIGHT_MASK);
+            int lower = (int)((claim >>> SLICE_LOWER_SHIFT) & SLICE_HEIGHT_MASK);
+            
+            this.updateSliceOwner( owner, (int)(claim & 0xFF), lower, upper );
+        }
+    }
+    @Override
     public void deserializeSlices(@NotNull ListTag serialized) {
         for (Tag tag : serialized) {
             // Must be compound tags
@@ -25,6 +25,7 @@
 
 package net.TheElm.project.mixins.World;
 
+import net.TheElm.project.interfaces.ExperienceClump;
 import net.minecraft.enchantment.Enchantment;
 import net.minecraft.enchantment.EnchantmentHelper;
 import net.minecraft.entity.Entity;
@@ -37,15 +38,13 @@ import net.minecraft.world.World;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Shadow;
 import org.spongepowered.asm.mixin.injection.At;
-import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.Redirect;
-import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 
 import java.util.Map;
 import java.util.Map.Entry;
 
 @Mixin(ExperienceOrbEntity.class)
-public abstract class Clumps extends Entity {
+public abstract class Clumps extends Entity implements ExperienceClump {
     
     @Shadow private int amount;
     @Shadow public int orbAge;
@@ -57,32 +56,9 @@ public abstract class Clumps extends Entity {
         super(entityType_1, world_1);
     }
     
-    @Inject(at = @At("TAIL"), method = "tick")
-    public void onTick(CallbackInfo callback) {
-        if (!this.world.isClient) {
-            // Get orbs of same tile
-            this.world.getEntities(
-                ExperienceOrbEntity.class,
-                this.getBoundingBox(),
-                (orb -> (!orb.getUuid().equals(this.getUuid())) && orb.isAlive())
-            ).stream().filter((orb) -> {
-                // Get where found orbs are younger than the current (Let the oldest live)
-                return orb.orbAge < this.orbAge;
-            }).findAny().ifPresent((orb) -> {
-                // Remove the orbs
-                orb.remove();
-                this.remove();
-                
-                // Spawn a new orb
-                world.spawnEntity(new ExperienceOrbEntity(
-                    world,
-                    this.getX(),
-                    this.getY(),
-                    this.getZ(),
-                    this.getExperienceAmount() + orb.getExperienceAmount()
-                ));
-            });
-        }
+    @Override
+    public void addExperienceAmount(int amount) {
+        this.amount += amount;
     }
     
     @Redirect(at = @At(value = "INVOKE", target = "Lnet/minecraft/enchantment/EnchantmentHelper;getRandomEnchantedEquipment(Lnet/minecraft/enchantment/Enchantment;Lnet/minecraft/entity/LivingEntity;)Ljava/util/Map$Entry;"), method = "onPlayerCollision")
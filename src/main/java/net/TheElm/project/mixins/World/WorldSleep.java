@@ -26,6 +26,7 @@
 package net.TheElm.project.mixins.World;
 
 import net.TheElm.project.CoreMod;
+import net.TheElm.project.config.ConfigSnapshot;
 import net.TheElm.project.config.SewingMachineConfig;
 import net.TheElm.project.interfaces.ConstructableEntity;
 import net.TheElm.project.interfaces.SleepingWorld;
@@ -79,13 +80,14 @@ public abstract class WorldSleep extends World implements SleepingWorld {
     @Inject(at = @At("HEAD"), method = "tick")
     public void onTick(BooleanSupplier booleanSupplier, CallbackInfo callback) {
         // If Naturally Sleeping, Disabled, or Not enough Percentage
+        ConfigSnapshot config = SewingMachineConfig.INSTANCE.snapshot();
         int sleepingPercentage;
         if ( (!this.getDimension().canPlayersSleep()) // If non-sleeping dimension (End/Nether)
                 || ( this.players.size() <= 0 ) // If nobody is online
                 || this.allPlayersSleeping // If everyone is already sleeping (Vanilla default)
-                || (!SewingMachineConfig.INSTANCE.DO_SLEEP_VOTE.get()) // If sleep voting is disabled
-                || ( SewingMachineConfig.INSTANCE.SLEEP_PERCENT.get() <= 0 ) // If the required sleeping percentage is 0 (disabled)
-                || ((sleepingPercentage = SleepUtils.getSleepingPercentage( this )) < SewingMachineConfig.INSTANCE.SLEEP_PERCENT.get() )
+                || (!config.DO_SLEEP_VOTE) // If sleep voting is disabled
+                || ( config.SLEEP_PERCENT <= 0 ) // If the required sleeping percentage is 0 (disabled)
+                || ((sleepingPercentage = SleepUtils.getSleepingPercentage( this )) < config.SLEEP_PERCENT )
         ) return;
         
         this.allPlayersSleeping = false;
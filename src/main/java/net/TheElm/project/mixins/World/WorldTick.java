@@ -0,0 +1,84 @@
+/*
+ * This software is licensed under the MIT License
+ * https://github.com/GStefanowich/MC-Server-Protection
+ *
+ * Copyright (c) 2019 Gregory Stefanowich
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package net.TheElm.project.mixins.World;
+
+import net.TheElm.project.config.SewingMachineConfig;
+import net.TheElm.project.interfaces.CampfireWorld;
+import net.TheElm.project.interfaces.CoverWorld;
+import net.TheElm.project.interfaces.DormantFurnace;
+import net.TheElm.project.interfaces.GrazingWorld;
+import net.TheElm.project.protections.events.BlockEvents;
+import net.TheElm.project.utilities.ExperienceUtils;
+import net.TheElm.project.utilities.ShopSignBuilder;
+import net.minecraft.block.entity.BlockEntity;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.world.chunk.WorldChunk;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+
+import java.util.function.BooleanSupplier;
+
+@Mixin(ServerWorld.class)
+public abstract class WorldTick implements CampfireWorld, CoverWorld, GrazingWorld {
+    
+    @Inject(at = @At("TAIL"), method = "tick")
+    public void onTick(BooleanSupplier booleanSupplier, CallbackInfo callback) {
+        ServerWorld world = (ServerWorld)(Object) this;
+        
+        // Put out campfires in the rain
+        if (SewingMachineConfig.INSTANCE.snapshot().EXTINGUISH_CAMPFIRES)
+            this.getCampfires().tick( world );
+        
+        // Cover is only looked for during storms
+        if (!world.isRaining())
+            this.getCoverMap().clear();
+        
+        // Break blocks from the vein miner
+        BlockEvents.breakPending( world );
+        
+        // Merge experience orbs that share a block
+        if (world.getTime() % 4L == 0L)
+            ExperienceUtils.mergeOrbs( world );
+        
+        // Forget the grazing of unloaded chunks, and abandoned shop signs, once a minute
+        if (world.getTime() % 1200L == 0L) {
+            this.getGrazingMap().prune( world );
+            ShopSignBuilder.expire( world );
+        }
+    }
+    
+    @Inject(at = @At("HEAD"), method = "unloadEntities")
+    public void onUnloadChunk(WorldChunk chunk, CallbackInfo callback) {
+        // Unloaded furnaces are no longer counted as dormant
+        for (BlockEntity blockEntity : chunk.getBlockEntities().values()) {
+            if (blockEntity instanceof DormantFurnace)
+                ((DormantFurnace) blockEntity).setDormant( false );
+        }
+    }
+    
+}
@@ -0,0 +1,172 @@
+/*
+ * This software is licensed under the MIT License
+ * https://github.com/GStefanowich/MC-Server-Protection
+ *
+ * Copyright (c) 2019 Gregory Stefanowich
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package net.TheElm.project.objects;
+
+import it.unimi.dsi.fastutil.longs.Long2BooleanMap;
+import it.unimi.dsi.fastutil.longs.Long2BooleanOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArrayFIFOQueue;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import it.unimi.dsi.fastutil.longs.LongList;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
+import net.minecraft.block.BlockState;
+import net.minecraft.block.CampfireBlock;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.sound.SoundCategory;
+import net.minecraft.sound.SoundEvents;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.biome.Biome;
+import org.jetbrains.annotations.NotNull;
+
+/*
+ * The lit campfires of a world, so rain only has to visit
+ * campfires that exist instead of every campfire checking the weather
+ */
+public final class CampfireRegistry {
+    
+    // How many campfires can be checked each tick
+    private static final int SWEEP_BUDGET = 16;
+    // How many ticks to wait between each full sweep
+    private static final int SWEEP_INTERVAL = 20;
+    
+    private final LongSet litCampfires = new LongOpenHashSet();
+    private final LongArrayFIFOQueue sweep = new LongArrayFIFOQueue();
+    private int sweepCooldown = 0;
+    
+    // If a campfire position is rained on, cleared when blocks change above it
+    private final Long2BooleanMap exposure = new Long2BooleanOpenHashMap();
+    private final Long2ObjectMap<LongList> exposureColumns = new Long2ObjectOpenHashMap<>();
+    
+    /*
+     * Registry updates
+     */
+    public void update(@NotNull BlockPos blockPos, boolean isLit) {
+        if (isLit)
+            this.litCampfires.add( blockPos.asLong() );
+        else
+            this.litCampfires.remove( blockPos.asLong() );
+    }
+    public void onBlockChanged(@NotNull BlockPos blockPos) {
+        if (this.exposureColumns.isEmpty())
+            return;
+        
+        long column = ChunkPos.toLong( blockPos.getX(), blockPos.getZ() );
+        LongList cached;
+        if ((cached = this.exposureColumns.get( column )) == null)
+            return;
+        
+        // Forget the exposure of any campfire below the changed block
+        LongIterator iterator = cached.iterator();
+        while (iterator.hasNext()) {
+            long campfire = iterator.nextLong();
+            if (BlockPos.unpackLongY( campfire ) <= blockPos.getY()) {
+                this.exposure.remove( campfire );
+                iterator.remove();
+            }
+        }
+        if (cached.isEmpty())
+            this.exposureColumns.remove( column );
+    }
+    
+    /*
+     * Sweep during rain
+     */
+    public void tick(@NotNull ServerWorld world) {
+        // Nothing to do in clear weather
+        if ((!world.isRaining()) || this.litCampfires.isEmpty()) {
+            this.sweep.clear();
+            return;
+        }
+        
+        // Start a new sweep
+        if (this.sweep.isEmpty()) {
+            if (this.sweepCooldown-- > 0)
+                return;
+            this.sweepCooldown = SWEEP_INTERVAL;
+            
+            LongIterator iterator = this.litCampfires.iterator();
+            while (iterator.hasNext())
+                this.sweep.enqueue( iterator.nextLong() );
+        }
+        
+        // Visit campfires until out of budget
+        for (int budget = SWEEP_BUDGET; (budget > 0) && (!this.sweep.isEmpty()); --budget)
+            this.visit( world, this.sweep.dequeueLong() );
+    }
+    private void visit(@NotNull ServerWorld world, long campfire) {
+        BlockPos blockPos = BlockPos.fromLong( campfire );
+        
+        // Forget campfires that have been unloaded
+        if (!world.isChunkLoaded( blockPos.getX() >> 4, blockPos.getZ() >> 4 )) {
+            this.forget( campfire );
+            return;
+        }
+        
+        // Forget campfires that have been removed or put out
+        BlockState blockState = world.getBlockState( blockPos );
+        if ((!(blockState.getBlock() instanceof CampfireBlock)) || (!blockState.get(CampfireBlock.LIT))) {
+            this.forget( campfire );
+            return;
+        }
+        
+        // If in a raining BIOME, and VISIBLE TO SKY
+        if (this.isExposed( world, blockPos, campfire )) {
+            world.setBlockState( blockPos, blockState.with(CampfireBlock.LIT, false) );
+            world.playSound( null, blockPos, SoundEvents.BLOCK_FIRE_EXTINGUISH, SoundCategory.BLOCKS, 1.0f, 1.0f );
+            this.forget( campfire );
+        }
+    }
+    private boolean isExposed(@NotNull ServerWorld world, @NotNull BlockPos blockPos, long campfire) {
+        if (this.exposure.containsKey( campfire ))
+            return this.exposure.get( campfire );
+        
+        boolean exposed = (world.getBiome( blockPos ).getPrecipitation() == Biome.Precipitation.RAIN) && world.isSkyVisible( blockPos );
+        
+        this.exposure.put( campfire, exposed );
+        this.exposureColumns.computeIfAbsent( ChunkPos.toLong( blockPos.getX(), blockPos.getZ() ), (column) -> new LongArrayList() )
+            .add( campfire );
+        
+        return exposed;
+    }
+    private void forget(long campfire) {
+        this.litCampfires.remove( campfire );
+        
+        // Clear the exposure cache
+        if (this.exposure.containsKey( campfire )) {
+            this.exposure.remove( campfire );
+            
+            long column = ChunkPos.toLong( BlockPos.unpackLongX( campfire ), BlockPos.unpackLongZ( campfire ) );
+            LongList cached;
+            if (((cached = this.exposureColumns.get( column )) != null) && cached.rem( campfire ) && cached.isEmpty())
+                this.exposureColumns.remove( column );
+        }
+    }
+    
+}
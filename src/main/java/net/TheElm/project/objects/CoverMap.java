@@ -0,0 +1,181 @@
+/*
+ * This software is licensed under the MIT License
+ * https://github.com/GStefanowich/MC-Server-Protection
+ *
+ * Copyright (c) 2019 Gregory Stefanowich
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package net.TheElm.project.objects;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import it.unimi.dsi.fastutil.longs.LongList;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.Heightmap;
+import net.minecraft.world.World;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.function.Predicate;
+
+/*
+ * Where mobs can get out of the rain, shared by every mob in a world.
+ * Cover is read from the chunk heightmaps one column at a time,
+ * and positions that mobs sheltered at are remembered per chunk.
+ */
+public final class CoverMap {
+    
+    // How many known shelters to keep for each chunk
+    private static final int SHELTERS_PER_CHUNK = 8;
+    private static final int UNKNOWN = Integer.MIN_VALUE;
+    
+    private final Long2ObjectMap<ChunkCover> chunks = new Long2ObjectOpenHashMap<>();
+    
+    /*
+     * Lookups
+     */
+    public boolean isCovered(@NotNull World world, @NotNull BlockPos blockPos) {
+        ChunkCover cover;
+        if ((cover = this.getChunk( world, blockPos.getX() >> 4, blockPos.getZ() >> 4 )) == null)
+            return false;
+        return blockPos.getY() < cover.getTop( world, blockPos.getX(), blockPos.getZ() );
+    }
+    @Nullable
+    public BlockPos getKnownShelter(@NotNull World world, @NotNull BlockPos near, int horizontal, int vertical, @NotNull Predicate<BlockPos> isUsable) {
+        BlockPos nearest = null;
+        double nearestDistance = Double.MAX_VALUE;
+        
+        for (int chunkX = (near.getX() - horizontal) >> 4; chunkX <= (near.getX() + horizontal) >> 4; ++chunkX) {
+            for (int chunkZ = (near.getZ() - horizontal) >> 4; chunkZ <= (near.getZ() + horizontal) >> 4; ++chunkZ) {
+                ChunkCover cover;
+                if ((cover = this.getChunk( world, chunkX, chunkZ )) == null)
+                    continue;
+                
+                LongIterator iterator = cover.shelters.iterator();
+                while (iterator.hasNext()) {
+                    BlockPos shelter = BlockPos.fromLong( iterator.nextLong() );
+                    if ((Math.abs( shelter.getX() - near.getX() ) > horizontal) || (Math.abs( shelter.getY() - near.getY() ) > vertical) || (Math.abs( shelter.getZ() - near.getZ() ) > horizontal))
+                        continue;
+                    
+                    double distance = shelter.getSquaredDistance( near );
+                    if (distance >= nearestDistance)
+                        continue;
+                    
+                    // Shelters stay known for as long as they stay covered and usable
+                    if ((shelter.getY() >= cover.getTop( world, shelter.getX(), shelter.getZ() )) || (!isUsable.test( shelter ))) {
+                        iterator.remove();
+                        continue;
+                    }
+                    
+                    nearest = shelter;
+                    nearestDistance = distance;
+                }
+            }
+        }
+        
+        return nearest;
+    }
+    
+    /*
+     * Updates
+     */
+    public void addShelter(@NotNull World world, @NotNull BlockPos blockPos) {
+        ChunkCover cover;
+        if ((cover = this.getChunk( world, blockPos.getX() >> 4, blockPos.getZ() >> 4 )) == null)
+            return;
+        
+        long shelter = blockPos.asLong();
+        if (cover.shelters.contains( shelter ))
+            return;
+        
+        // Forget the oldest shelter
+        if (cover.shelters.size() >= SHELTERS_PER_CHUNK)
+            cover.shelters.removeLong( 0 );
+        cover.shelters.add( shelter );
+    }
+    public void onBlockChanged(@NotNull BlockPos blockPos) {
+        if (this.chunks.isEmpty())
+            return;
+        
+        ChunkCover cover;
+        if ((cover = this.chunks.get( ChunkPos.toLong( blockPos.getX() >> 4, blockPos.getZ() >> 4 ) )) == null)
+            return;
+        
+        // Re-read the column from the heightmap the next time it is asked for
+        cover.tops[ChunkCover.column( blockPos.getX(), blockPos.getZ() )] = UNKNOWN;
+        
+        // The ground or roof of a shelter in this column may have changed
+        LongIterator iterator = cover.shelters.iterator();
+        while (iterator.hasNext()) {
+            long shelter = iterator.nextLong();
+            if ((BlockPos.unpackLongX( shelter ) == blockPos.getX()) && (BlockPos.unpackLongZ( shelter ) == blockPos.getZ()))
+                iterator.remove();
+        }
+    }
+    public void clear() {
+        if (!this.chunks.isEmpty())
+            this.chunks.clear();
+    }
+    
+    @Nullable
+    private ChunkCover getChunk(@NotNull World world, int chunkX, int chunkZ) {
+        long key = ChunkPos.toLong( chunkX, chunkZ );
+        
+        // Don't load chunks for cover, and forget chunks that were unloaded
+        if (!world.isChunkLoaded( chunkX, chunkZ )) {
+            this.chunks.remove( key );
+            return null;
+        }
+        
+        return this.chunks.computeIfAbsent( key, (chunk) -> new ChunkCover() );
+    }
+    
+    private static final class ChunkCover {
+        private final int[] tops = new int[256];
+        private final LongList shelters = new LongArrayList( SHELTERS_PER_CHUNK );
+        
+        private ChunkCover() {
+            Arrays.fill( this.tops, UNKNOWN );
+        }
+        
+        /*
+         * Rain stops at the MOTION_BLOCKING heightmap (See World#hasRain), so glass,
+         * leaves and fluids are all cover, unlike the sky light check used before
+         */
+        private int getTop(@NotNull World world, int x, int z) {
+            int column = ChunkCover.column( x, z );
+            if (this.tops[column] == UNKNOWN)
+                this.tops[column] = world.getChunk( x >> 4, z >> 4 )
+                    .getHeightmap( Heightmap.Type.MOTION_BLOCKING )
+                    .get( x & 15, z & 15 );
+            return this.tops[column];
+        }
+        
+        private static int column(int x, int z) {
+            return ((z & 15) << 4) | (x & 15);
+        }
+    }
+    
+}
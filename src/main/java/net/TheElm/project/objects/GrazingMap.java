@@ -0,0 +1,95 @@
+/*
+ * This software is licensed under the MIT License
+ * https://github.com/GStefanowich/MC-Server-Protection
+ *
+ * Copyright (c) 2019 Gregory Stefanowich
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package net.TheElm.project.objects;
+
+import it.unimi.dsi.fastutil.longs.Long2IntMap;
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import net.minecraft.block.BlockState;
+import net.minecraft.block.Blocks;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.World;
+import net.minecraft.world.chunk.ChunkSection;
+import org.jetbrains.annotations.NotNull;
+
+/*
+ * Which chunk sections of a world may contain mycelium, so grazing mobs
+ * standing in a section without any can skip reading the block below them.
+ * Each chunk is stored as an int, the low 16 bits are the sections that have
+ * been checked, and the high 16 bits are the sections that may hold mycelium.
+ */
+public final class GrazingMap {
+    
+    private final Long2IntMap chunks = new Long2IntOpenHashMap();
+    
+    /*
+     * Lookups
+     */
+    public boolean mayHaveMycelium(@NotNull World world, int x, int y, int z) {
+        if ((y < 0) || (y > 255))
+            return false;
+        
+        int chunkX = x >> 4;
+        int chunkZ = z >> 4;
+        long key = ChunkPos.toLong( chunkX, chunkZ );
+        
+        // Never load chunks for grazing
+        if (!world.isChunkLoaded( chunkX, chunkZ )) {
+            this.chunks.remove( key );
+            return false;
+        }
+        
+        int section = y >> 4;
+        int summary = this.chunks.get( key );
+        if ((summary & (1 << section)) == 0) {
+            // Check the palette of the section instead of its blocks
+            ChunkSection chunkSection = world.getChunk( chunkX, chunkZ ).getSectionArray()[section];
+            if ((!ChunkSection.isEmpty( chunkSection )) && chunkSection.hasAny(( state ) -> state.getBlock() == Blocks.MYCELIUM))
+                summary |= (1 << (section + 16));
+            this.chunks.put( key, summary |= (1 << section) );
+        }
+        
+        return (summary & (1 << (section + 16))) != 0;
+    }
+    
+    /*
+     * Updates
+     */
+    public void onBlockChanged(@NotNull BlockPos blockPos, @NotNull BlockState blockState) {
+        // Only new mycelium changes anything, sections that lost theirs are re-checked when their chunk reloads
+        if ((blockState.getBlock() != Blocks.MYCELIUM) || (blockPos.getY() < 0) || (blockPos.getY() > 255))
+            return;
+        
+        long key = ChunkPos.toLong( blockPos.getX() >> 4, blockPos.getZ() >> 4 );
+        int section = blockPos.getY() >> 4;
+        if (this.chunks.containsKey( key ))
+            this.chunks.put( key, this.chunks.get( key ) | (1 << section) | (1 << (section + 16)) );
+    }
+    public void prune(@NotNull World world) {
+        this.chunks.keySet().removeIf(( key ) -> !world.isChunkLoaded( ChunkPos.getPackedX( key ), ChunkPos.getPackedZ( key ) ));
+    }
+    
+}
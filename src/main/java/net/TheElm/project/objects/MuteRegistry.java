@@ -0,0 +1,149 @@
+/*
+ * This software is licensed under the MIT License
+ * https://github.com/GStefanowich/MC-Server-Protection
+ *
+ * Copyright (c) 2019 Gregory Stefanowich
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package net.TheElm.project.objects;
+
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.ListTag;
+import net.minecraft.nbt.Tag;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/*
+ * Server-wide personal mutes, indexed both from the listener (Who they have muted)
+ * and from the speaker (Who has muted them), so that filtering the recipients of
+ * a message only costs as much as the number of players that muted the speaker
+ */
+public final class MuteRegistry {
+    
+    private static final Map<UUID, Set<UUID>> MUTED_BY_LISTENER = new HashMap<>();
+    private static final Map<UUID, Set<UUID>> LISTENERS_BY_SPEAKER = new HashMap<>();
+    
+    private MuteRegistry() {}
+    
+    /**
+     * @param listener The player doing the muting
+     * @param speaker The player being muted
+     * @return TRUE if the speaker is now muted, FALSE if they were unmuted
+     */
+    public static boolean toggle(@NotNull UUID listener, @NotNull UUID speaker) {
+        synchronized ( MUTED_BY_LISTENER ) {
+            if (MuteRegistry.isMuted( listener, speaker )) {
+                MuteRegistry.remove( listener, speaker );
+                return false;
+            }
+            MuteRegistry.add( listener, speaker );
+            return true;
+        }
+    }
+    public static boolean isMuted(@NotNull UUID listener, @NotNull UUID speaker) {
+        synchronized ( MUTED_BY_LISTENER ) {
+            Set<UUID> muted = MUTED_BY_LISTENER.get( listener );
+            return (muted != null) && muted.contains( speaker );
+        }
+    }
+    
+    /**
+     * @param speaker The player sending a message
+     * @return The players that have muted the speaker
+     */
+    @NotNull
+    public static Set<UUID> getListenersMuting(@NotNull UUID speaker) {
+        synchronized ( MUTED_BY_LISTENER ) {
+            Set<UUID> listeners = LISTENERS_BY_SPEAKER.get( speaker );
+            if (listeners == null)
+                return Collections.emptySet();
+            return new HashSet<>( listeners );
+        }
+    }
+    
+    /*
+     * Nbt saving (Stored with the listeners player data)
+     */
+    @NotNull
+    public static ListTag toTag(@NotNull UUID listener) {
+        ListTag mutedList = new ListTag();
+        synchronized ( MUTED_BY_LISTENER ) {
+            Set<UUID> muted = MUTED_BY_LISTENER.get( listener );
+            if (muted != null) {
+                for (UUID speaker : muted) {
+                    CompoundTag mutedTag = new CompoundTag();
+                    mutedTag.putUuid("i", speaker);
+                    mutedList.add(mutedTag);
+                }
+            }
+        }
+        return mutedList;
+    }
+    public static void fromTag(@NotNull UUID listener, @NotNull ListTag mutedList) {
+        synchronized ( MUTED_BY_LISTENER ) {
+            // Clear any previous mutes (Replaced by what was saved)
+            MuteRegistry.unload( listener );
+            
+            for (Tag it : mutedList) {
+                if (!(it instanceof CompoundTag)) continue;
+                CompoundTag mutedTag = (CompoundTag) it;
+                if (mutedTag.containsUuid("i"))
+                    MuteRegistry.add( listener, mutedTag.getUuid("i") );
+            }
+        }
+    }
+    
+    /**
+     * Drop the mutes of a listener from memory (Once their player data has been saved)
+     * @param listener The player that is logging out
+     */
+    public static void unload(@NotNull UUID listener) {
+        synchronized ( MUTED_BY_LISTENER ) {
+            Set<UUID> muted = MUTED_BY_LISTENER.get( listener );
+            if (muted != null) {
+                for (UUID speaker : new HashSet<>( muted ))
+                    MuteRegistry.remove( listener, speaker );
+            }
+        }
+    }
+    
+    /*
+     * Index updates
+     */
+    private static void add(@NotNull UUID listener, @NotNull UUID speaker) {
+        MUTED_BY_LISTENER.computeIfAbsent( listener, (uuid) -> new HashSet<>() ).add( speaker );
+        LISTENERS_BY_SPEAKER.computeIfAbsent( speaker, (uuid) -> new HashSet<>() ).add( listener );
+    }
+    private static void remove(@NotNull UUID listener, @NotNull UUID speaker) {
+        Set<UUID> muted, listeners;
+        if (((muted = MUTED_BY_LISTENER.get( listener )) != null) && muted.remove( speaker ) && muted.isEmpty())
+            MUTED_BY_LISTENER.remove( listener );
+        if (((listeners = LISTENERS_BY_SPEAKER.get( speaker )) != null) && listeners.remove( listener ) && listeners.isEmpty())
+            LISTENERS_BY_SPEAKER.remove( speaker );
+    }
+    
+}
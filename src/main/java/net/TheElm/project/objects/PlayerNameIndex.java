@@ -0,0 +1,153 @@
+/*
+ * This software is licensed under the MIT License
+ * https://github.com/GStefanowich/MC-Server-Protection
+ *
+ * Copyright (c) 2019 Gregory Stefanowich
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package net.TheElm.project.objects;
+
+import net.TheElm.project.CoreMod;
+import net.TheElm.project.utilities.NbtUtils;
+import net.fabricmc.fabric.api.util.NbtType;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.NbtIo;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/*
+ * The last known names and nicknames of every player, saved to the world
+ * so that names don't have to be looked up again after a restart
+ */
+public final class PlayerNameIndex {
+    
+    private final Map<UUID, String> names = new HashMap<>();
+    // Nicknames as JSON text, an empty String if the player has no nickname
+    private final Map<UUID, String> nicknames = new HashMap<>();
+    
+    private boolean loaded = false;
+    private boolean dirty = false;
+    
+    /*
+     * Names
+     */
+    @Nullable
+    public synchronized String getName(@NotNull UUID uuid) {
+        this.load();
+        return this.names.get( uuid );
+    }
+    public synchronized void putName(@NotNull UUID uuid, @NotNull String name) {
+        this.load();
+        if (!name.equals(this.names.put( uuid, name )))
+            this.dirty = true;
+    }
+    
+    /*
+     * Nicknames
+     */
+    public synchronized boolean hasNickname(@NotNull UUID uuid) {
+        this.load();
+        return this.nicknames.containsKey( uuid );
+    }
+    @Nullable
+    public synchronized String getNickname(@NotNull UUID uuid) {
+        this.load();
+        String json = this.nicknames.get( uuid );
+        return ((json == null) || json.isEmpty()) ? null : json;
+    }
+    public synchronized void putNickname(@NotNull UUID uuid, @Nullable String json) {
+        this.load();
+        if (!(json == null ? "" : json).equals(this.nicknames.put( uuid, json == null ? "" : json )))
+            this.dirty = true;
+    }
+    
+    /*
+     * Saving
+     */
+    private void load() {
+        if (this.loaded)
+            return;
+        this.loaded = true;
+        
+        File file = PlayerNameIndex.getFile();
+        if (!file.exists())
+            return;
+        
+        try (FileInputStream stream = new FileInputStream( file )) {
+            CompoundTag tag = NbtIo.readCompressed( stream );
+            for (String key : tag.getKeys()) {
+                CompoundTag player = tag.getCompound( key );
+                UUID uuid = UUID.fromString( key );
+                
+                if (player.contains("name", NbtType.STRING))
+                    this.names.put( uuid, player.getString("name") );
+                if (player.contains("nick", NbtType.STRING))
+                    this.nicknames.put( uuid, player.getString("nick") );
+            }
+        } catch (IOException | IllegalArgumentException e) {
+            CoreMod.logError( "Error reading player names" );
+            CoreMod.logError( e );
+        }
+    }
+    public synchronized void save() {
+        if (!this.dirty)
+            return;
+        
+        File file = PlayerNameIndex.getFile();
+        
+        // If the directories don't exist
+        if ((!file.getParentFile().exists()) && (!file.getParentFile().mkdirs()))
+            return;
+        
+        CompoundTag tag = new CompoundTag();
+        this.names.forEach((uuid, name) -> {
+            CompoundTag player = new CompoundTag();
+            player.putString("name", name);
+            tag.put(uuid.toString(), player);
+        });
+        this.nicknames.forEach((uuid, json) -> {
+            CompoundTag player = tag.getCompound(uuid.toString());
+            player.putString("nick", json);
+            tag.put(uuid.toString(), player);
+        });
+        
+        try (FileOutputStream stream = new FileOutputStream( file )) {
+            NbtIo.writeCompressed( tag, stream );
+            this.dirty = false;
+        } catch (IOException e) {
+            CoreMod.logError( e );
+        }
+    }
+    
+    @NotNull
+    private static File getFile() {
+        return new File(new File(NbtUtils.worldFolder(), "sewing-machine"), "player_names.dat");
+    }
+    
+}
@@ -0,0 +1,134 @@
+/*
+ * This software is licensed under the MIT License
+ * https://github.com/GStefanowich/MC-Server-Protection
+ *
+ * Copyright (c) 2019 Gregory Stefanowich
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package net.TheElm.project.objects;
+
+import net.TheElm.project.CoreMod;
+import net.TheElm.project.interfaces.PlayerNameLookup;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.function.LongSupplier;
+
+/*
+ * Remote player name lookups, with at most one request per player in flight,
+ * and failed lookups remembered for a while so they aren't retried on every call
+ */
+public final class PlayerNameRequests {
+    
+    // How long to wait before looking up a failed name again
+    public static final long RETRY_MILLIS = 5 * 60 * 1000;
+    // How many failures to keep before clearing out expired ones
+    private static final int FAILURES_SIZE = 256;
+    
+    private final Map<UUID, CompletableFuture<String>> pending = new ConcurrentHashMap<>();
+    private final Map<UUID, Long> failures = new ConcurrentHashMap<>();
+    
+    private final Executor executor;
+    private final LongSupplier clock;
+    private final long retryMillis;
+    private volatile PlayerNameLookup lookup;
+    
+    public PlayerNameRequests(@NotNull PlayerNameLookup lookup) {
+        this(lookup, Executors.newSingleThreadExecutor((runnable) -> {
+            Thread thread = new Thread(runnable, "Player name lookup");
+            thread.setDaemon(true);
+            return thread;
+        }), System::currentTimeMillis, RETRY_MILLIS);
+    }
+    public PlayerNameRequests(@NotNull PlayerNameLookup lookup, @NotNull Executor executor, @NotNull LongSupplier clock, long retryMillis) {
+        this.lookup = lookup;
+        this.executor = executor;
+        this.clock = clock;
+        this.retryMillis = retryMillis;
+    }
+    
+    /**
+     * Look up the name of a player, sharing any lookup that is already running
+     * @param uuid The UUID of the player
+     * @return The name of the player, completed with NULL if the lookup failed
+     */
+    @NotNull
+    public CompletableFuture<String> request(@NotNull UUID uuid) {
+        // Don't retry recent failures
+        Long failedAt;
+        if ((failedAt = this.failures.get( uuid )) != null) {
+            if ((this.clock.getAsLong() - failedAt) < this.retryMillis)
+                return CompletableFuture.completedFuture( null );
+            this.failures.remove( uuid, failedAt );
+        }
+        
+        CompletableFuture<String> created = new CompletableFuture<>();
+        CompletableFuture<String> existing;
+        if ((existing = this.pending.putIfAbsent( uuid, created )) != null)
+            return existing;
+        
+        this.executor.execute(() -> {
+            // Log that a request is being made
+            CoreMod.logInfo( "Looking up username of " + uuid.toString() );
+            
+            String name = null;
+            try {
+                name = this.lookup.lookup( uuid );
+            } catch (IOException | RuntimeException e) {
+                CoreMod.logError( e );
+            }
+            
+            if ( name == null ) {
+                CoreMod.logInfo( "Player name of " + uuid.toString() + " [LOOKUP FAILED]" );
+                this.fail( uuid );
+            } else CoreMod.logInfo( "Player name of " + uuid.toString() + " is " + name );
+            
+            // Finish the request before completing, so that callbacks can request again
+            this.pending.remove( uuid, created );
+            created.complete( name );
+        });
+        
+        return created;
+    }
+    public boolean isPending(@NotNull UUID uuid) {
+        return this.pending.containsKey( uuid );
+    }
+    
+    private void fail(@NotNull UUID uuid) {
+        long now = this.clock.getAsLong();
+        if (this.failures.size() >= FAILURES_SIZE)
+            this.failures.values().removeIf((failedAt) -> (now - failedAt) >= this.retryMillis);
+        this.failures.put( uuid, now );
+    }
+    
+    public void setLookup(@NotNull PlayerNameLookup lookup) {
+        this.lookup = lookup;
+        this.failures.clear();
+    }
+    
+}
@@ -0,0 +1,374 @@
+/*
+ * This software is licensed under the MIT License
+ * https://github.com/GStefanowich/MC-Server-Protection
+ *
+ * Copyright (c) 2019 Gregory Stefanowich
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package net.TheElm.project.objects;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.TheElm.project.CoreMod;
+import net.TheElm.project.enums.ShopSigns;
+import net.TheElm.project.interfaces.ShopSignBlockEntity;
+import net.TheElm.project.utilities.InventoryUtils;
+import net.TheElm.project.utilities.NbtUtils;
+import net.fabricmc.fabric.api.util.NbtType;
+import net.minecraft.block.BlockState;
+import net.minecraft.block.ChestBlock;
+import net.minecraft.block.entity.BlockEntity;
+import net.minecraft.block.entity.LootableContainerBlockEntity;
+import net.minecraft.block.enums.ChestType;
+import net.minecraft.inventory.Inventory;
+import net.minecraft.item.Item;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.ListTag;
+import net.minecraft.nbt.NbtIo;
+import net.minecraft.util.Identifier;
+import net.minecraft.util.InvalidIdentifierException;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.registry.Registry;
+import net.minecraft.world.World;
+import net.minecraft.world.dimension.DimensionType;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/*
+ * Every shop sign in every world, saved to the world so that shops
+ * can be searched, and their stock checked, without loading any chunks.
+ * Only the server thread reads or changes the index.
+ */
+public final class ShopIndex {
+    
+    // Shops of each world
+    private static final Map<DimensionType, WorldShops> WORLDS = new HashMap<>();
+    
+    private static boolean dirty = false;
+    
+    private ShopIndex() {}
+    
+    @NotNull
+    public static WorldShops get(@NotNull DimensionType dimension) {
+        return WORLDS.computeIfAbsent( dimension, (type) -> new WorldShops() );
+    }
+    
+    /*
+     * Maintained by the shop signs
+     */
+    public static void track(@NotNull World world, @NotNull BlockPos signPos, @NotNull ShopSignBlockEntity sign) {
+        ShopSigns type;
+        if ((sign.getShopOwner() == null) || ((type = sign.getShopType()) == null))
+            return;
+        
+        LootableContainerBlockEntity container = type.getAttachedChest( world, signPos, sign );
+        Item item = sign.getShopItem();
+        
+        Shop shop = new Shop(
+            world.dimension.getType(),
+            signPos.asLong(),
+            sign.getShopOwner(),
+            type,
+            item == null ? null : Registry.ITEM.getId( item ),
+            sign.getShopItemCount() == null ? 0 : sign.getShopItemCount(),
+            sign.getShopItemPrice() == null ? 0 : sign.getShopItemPrice(),
+            container == null ? null : container.getPos().asLong()
+        );
+        
+        WorldShops shops = ShopIndex.get( shop.dimension );
+        shops.remove( shop.signPos );
+        shops.add( shop );
+        ShopIndex.countStock( world, shop );
+        ShopIndex.dirty = true;
+    }
+    public static boolean isTracked(@NotNull World world, @NotNull BlockPos signPos) {
+        WorldShops shops = WORLDS.get( world.dimension.getType() );
+        return (shops != null) && shops.signs.containsKey( signPos.asLong() );
+    }
+    
+    /*
+     * Queries
+     */
+    @NotNull
+    public static List<Shop> getShops(@NotNull Predicate<Shop> predicate) {
+        return WORLDS.values().stream()
+            .map((shops) -> shops.signs.values())
+            .flatMap(Collection::stream)
+            .filter(predicate)
+            .collect(Collectors.toList());
+    }
+    @NotNull
+    public static List<Shop> getShopsOf(@NotNull UUID owner) {
+        return ShopIndex.getShops((shop) -> owner.equals( shop.owner ));
+    }
+    @NotNull
+    public static List<Shop> getShopsFor(@NotNull Item item) {
+        Identifier identifier = Registry.ITEM.getId( item );
+        return ShopIndex.getShops((shop) -> identifier.equals( shop.item ));
+    }
+    @NotNull
+    public static List<Shop> getOutOfStock(@NotNull UUID owner) {
+        return ShopIndex.getShops((shop) -> owner.equals( shop.owner ) && (!shop.isInStock()));
+    }
+    
+    /*
+     * Stock
+     */
+    private static void countStock(@NotNull World world, @Nullable List<Shop> shops) {
+        if (shops == null)
+            return;
+        for (Shop shop : shops)
+            ShopIndex.countStock( world, shop );
+    }
+    private static void countStock(@NotNull World world, @NotNull Shop shop) {
+        if ((shop.containerPos == null) || (shop.item == null))
+            return;
+        
+        Inventory inventory = InventoryUtils.getInventoryOf( world, BlockPos.fromLong( shop.containerPos ) );
+        int stock = (inventory == null ? 0 : inventory.countInInv( Registry.ITEM.get( shop.item ) ));
+        if (stock != shop.stock) {
+            shop.stock = stock;
+            ShopIndex.dirty = true;
+        }
+    }
+    
+    /*
+     * Saving
+     */
+    public static void load() {
+        for (WorldShops shops : WORLDS.values())
+            shops.clear();
+        ShopIndex.dirty = false;
+        
+        File file = ShopIndex.getFile();
+        if (!file.exists())
+            return;
+        
+        try (FileInputStream stream = new FileInputStream( file )) {
+            ListTag list = NbtIo.readCompressed( stream ).getList("shops", NbtType.COMPOUND);
+            for (int i = 0; i < list.size(); i++) {
+                Shop shop = Shop.fromTag( list.getCompound( i ) );
+                if (shop != null)
+                    ShopIndex.get( shop.dimension ).add( shop );
+            }
+        } catch (IOException e) {
+            CoreMod.logError( "Error reading shop index" );
+            CoreMod.logError( e );
+        }
+    }
+    public static void save() {
+        if (!ShopIndex.dirty)
+            return;
+        
+        File file = ShopIndex.getFile();
+        
+        // If the directories don't exist
+        if ((!file.getParentFile().exists()) && (!file.getParentFile().mkdirs()))
+            return;
+        
+        ListTag list = new ListTag();
+        for (WorldShops shops : WORLDS.values())
+            for (Shop shop : shops.signs.values())
+                list.add( shop.toTag() );
+        
+        CompoundTag tag = new CompoundTag();
+        tag.put("shops", list);
+        
+        try (FileOutputStream stream = new FileOutputStream( file )) {
+            NbtIo.writeCompressed( tag, stream );
+            ShopIndex.dirty = false;
+        } catch (IOException e) {
+            CoreMod.logError( e );
+        }
+    }
+    
+    @NotNull
+    private static File getFile() {
+        return new File(new File(NbtUtils.worldFolder(), "sewing-machine"), "shops.dat");
+    }
+    
+    public static final class WorldShops {
+        // Shops by the position of their sign
+        private final Long2ObjectMap<Shop> signs = new Long2ObjectOpenHashMap<>();
+        // Shops by the position of their container
+        private final Long2ObjectMap<List<Shop>> containers = new Long2ObjectOpenHashMap<>();
+        
+        private WorldShops() {}
+        
+        /**
+         * Called for every block change in the world, so only does work when a shop sign was replaced
+         * @param blockPos The position that changed
+         */
+        public void onBlockChanged(@NotNull BlockPos blockPos) {
+            if ((!this.signs.isEmpty()) && (this.remove( blockPos.asLong() ) != null))
+                ShopIndex.dirty = true;
+        }
+        public void onContainerChanged(@NotNull World world, @NotNull BlockEntity container) {
+            if (this.containers.isEmpty())
+                return;
+            
+            BlockPos blockPos = container.getPos();
+            BlockState blockState = container.getCachedState();
+            ShopIndex.countStock( world, this.containers.get( blockPos.asLong() ) );
+            
+            // Shops on the other half of a double chest
+            if ((blockState.getBlock() instanceof ChestBlock) && (blockState.get(ChestBlock.CHEST_TYPE) != ChestType.SINGLE))
+                ShopIndex.countStock( world, this.containers.get( blockPos.offset(ChestBlock.getFacing( blockState )).asLong() ) );
+        }
+        
+        private void add(@NotNull Shop shop) {
+            this.signs.put( shop.signPos, shop );
+            if (shop.containerPos != null)
+                this.containers.computeIfAbsent( (long) shop.containerPos, (pos) -> new ArrayList<>() )
+                    .add( shop );
+        }
+        @Nullable
+        private Shop remove(long signPos) {
+            Shop shop;
+            if ((shop = this.signs.remove( signPos )) == null)
+                return null;
+            
+            List<Shop> attached;
+            if ((shop.containerPos != null) && ((attached = this.containers.get( (long) shop.containerPos )) != null)) {
+                attached.remove( shop );
+                if (attached.isEmpty())
+                    this.containers.remove( (long) shop.containerPos );
+            }
+            return shop;
+        }
+        private void clear() {
+            this.signs.clear();
+            this.containers.clear();
+        }
+    }
+    
+    public static final class Shop {
+        private final DimensionType dimension;
+        private final long signPos;
+        private final UUID owner;
+        private final ShopSigns type;
+        @Nullable private final Identifier item;
+        private final int count;
+        private final int price;
+        @Nullable private final Long containerPos;
+        
+        // How many of the item are in the container, -1 if not yet counted
+        private int stock = -1;
+        
+        private Shop(@NotNull DimensionType dimension, long signPos, @NotNull UUID owner, @NotNull ShopSigns type, @Nullable Identifier item, int count, int price, @Nullable Long containerPos) {
+            this.dimension = dimension;
+            this.signPos = signPos;
+            this.owner = owner;
+            this.type = type;
+            this.item = item;
+            this.count = count;
+            this.price = price;
+            this.containerPos = containerPos;
+        }
+        
+        public DimensionType getDimension() {
+            return this.dimension;
+        }
+        public BlockPos getSignPos() {
+            return BlockPos.fromLong( this.signPos );
+        }
+        public UUID getOwner() {
+            return this.owner;
+        }
+        public ShopSigns getType() {
+            return this.type;
+        }
+        @Nullable
+        public Item getItem() {
+            return this.item == null ? null : Registry.ITEM.get( this.item );
+        }
+        public int getCount() {
+            return this.count;
+        }
+        public int getPrice() {
+            return this.price;
+        }
+        @Nullable
+        public BlockPos getContainerPos() {
+            return this.containerPos == null ? null : BlockPos.fromLong( this.containerPos );
+        }
+        public int getStock() {
+            return this.stock;
+        }
+        public boolean isInStock() {
+            // Only shops that hand out items can run out, and server shops never do
+            if (((this.type != ShopSigns.BUY) && (this.type != ShopSigns.FREE)) || (this.containerPos == null))
+                return true;
+            return this.stock >= this.count;
+        }
+        
+        private CompoundTag toTag() {
+            CompoundTag tag = new CompoundTag();
+            tag.putInt("dimension", this.dimension.getRawId());
+            tag.putLong("sign", this.signPos);
+            tag.putUuid("owner", this.owner);
+            tag.putString("type", this.type.name());
+            if (this.item != null) tag.putString("item", this.item.toString());
+            tag.putInt("count", this.count);
+            tag.putInt("price", this.price);
+            if (this.containerPos != null) tag.putLong("container", this.containerPos);
+            tag.putInt("stock", this.stock);
+            return tag;
+        }
+        @Nullable
+        private static Shop fromTag(@NotNull CompoundTag tag) {
+            DimensionType dimension = DimensionType.byRawId( tag.getInt("dimension") );
+            if ((dimension == null) || (!tag.containsUuid("owner")))
+                return null;
+            
+            try {
+                Shop shop = new Shop(
+                    dimension,
+                    tag.getLong("sign"),
+                    tag.getUuid("owner"),
+                    ShopSigns.valueOf( tag.getString("type") ),
+                    tag.contains("item", NbtType.STRING) ? new Identifier( tag.getString("item") ) : null,
+                    tag.getInt("count"),
+                    tag.getInt("price"),
+                    tag.contains("container", NbtType.LONG) ? tag.getLong("container") : null
+                );
+                shop.stock = tag.getInt("stock");
+                return shop;
+            } catch (IllegalArgumentException | InvalidIdentifierException e) {
+                return null;
+            }
+        }
+    }
+    
+}
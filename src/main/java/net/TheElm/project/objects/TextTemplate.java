@@ -0,0 +1,133 @@
+/*
+ * This software is licensed under the MIT License
+ * https://github.com/GStefanowich/MC-Server-Protection
+ *
+ * Copyright (c) 2019 Gregory Stefanowich
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package net.TheElm.project.objects;
+
+import net.TheElm.project.utilities.CasingUtils;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/*
+ * A message with "${variable}" slots, parsed once into its literal
+ * pieces and variables. The slots can end with "^" for Word Casing,
+ * "^^" for UPPER casing, or "__" for lower casing.
+ */
+public final class TextTemplate {
+    
+    private static final Pattern VARIABLE = Pattern.compile("\\$\\{(\\w+?)([\\^_]{0,2})}");
+    
+    private final String raw;
+    private final List<Piece> pieces;
+    private final Set<String> variables;
+    
+    private TextTemplate( String raw, List<Piece> pieces, Set<String> variables ) {
+        this.raw = raw;
+        this.pieces = pieces;
+        this.variables = variables;
+    }
+    
+    /**
+     * @return The names of the variables used in the template
+     */
+    @NotNull
+    public Set<String> getVariables() {
+        return this.variables;
+    }
+    
+    /**
+     * @param values The value of each variable, variables without a value are left as-is
+     * @return The message with all of the variables filled in
+     */
+    @NotNull
+    public String render(@NotNull Map<String, String> values) {
+        StringBuilder builder = new StringBuilder();
+        for (Piece piece : this.pieces) {
+            String value;
+            if (piece.variable == null)
+                builder.append(piece.text);
+            else if ((value = values.get(piece.variable)) == null)
+                builder.append(piece.text);
+            else builder.append(piece.applyCasing(value));
+        }
+        return builder.toString();
+    }
+    
+    @Override
+    public String toString() {
+        return this.raw;
+    }
+    
+    public static TextTemplate parse(@NotNull String string) {
+        List<Piece> pieces = new ArrayList<>();
+        Set<String> variables = new HashSet<>();
+        
+        Matcher matcher = VARIABLE.matcher(string);
+        int last = 0;
+        while (matcher.find()) {
+            if (matcher.start() > last)
+                pieces.add(new Piece(string.substring(last, matcher.start()), null, ""));
+            
+            pieces.add(new Piece(matcher.group(), matcher.group(1), matcher.group(2)));
+            variables.add(matcher.group(1));
+            last = matcher.end();
+        }
+        if (last < string.length())
+            pieces.add(new Piece(string.substring(last), null, ""));
+        
+        return new TextTemplate(string, pieces, Collections.unmodifiableSet(variables));
+    }
+    
+    private static final class Piece {
+        private final String text;
+        @Nullable
+        private final String variable;
+        private final String casing;
+        
+        private Piece(@NotNull String text, @Nullable String variable, @NotNull String casing) {
+            this.text = text;
+            this.variable = variable;
+            this.casing = casing;
+        }
+        
+        private String applyCasing(@NotNull String value) {
+            if (this.casing.endsWith("__"))
+                return CasingUtils.Lower(value);
+            if (this.casing.endsWith("^^"))
+                return CasingUtils.Upper(value);
+            if (this.casing.endsWith("^"))
+                return CasingUtils.Words(value);
+            return value;
+        }
+    }
+}
@@ -0,0 +1,198 @@
+/*
+ * This software is licensed under the MIT License
+ * https://github.com/GStefanowich/MC-Server-Protection
+ *
+ * Copyright (c) 2019 Gregory Stefanowich
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package net.TheElm.project.objects;
+
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntList;
+import net.minecraft.entity.player.PlayerInventory;
+import net.minecraft.inventory.Inventory;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/*
+ * A slot-by-slot plan for moving items between two inventories, built
+ * without changing either inventory so that it can be checked first
+ * and then committed all at once. A NULL source has infinite items,
+ * and a NULL target destroys the items it is given.
+ */
+public final class TransferPlan {
+    
+    @Nullable private final Inventory source;
+    @Nullable private final Inventory target;
+    private final int requested;
+    
+    // How many items to take from each slot of the source
+    private final IntList sourceSlots = new IntArrayList();
+    private final IntList sourceCounts = new IntArrayList();
+    
+    // The stacks that each slot of the target will hold
+    private final IntList targetSlots = new IntArrayList();
+    private final List<ItemStack> targetStacks = new ArrayList<>();
+    
+    private int available = 0;
+    private int moved = 0;
+    private boolean committed = false;
+    
+    private TransferPlan(@Nullable Inventory source, @Nullable Inventory target, int requested) {
+        this.source = source;
+        this.target = target;
+        this.requested = requested;
+    }
+    
+    /*
+     * Planning
+     */
+    @NotNull
+    public static TransferPlan plan(@Nullable Inventory source, @Nullable Inventory target, @NotNull Item item, int count) {
+        TransferPlan plan = new TransferPlan(source, target, count);
+        
+        // Find the stacks to take from
+        List<ItemStack> supply = new ArrayList<>();
+        if (source == null) {
+            for (int remaining = count; remaining > 0; remaining -= item.getMaxCount()) {
+                ItemStack stack = new ItemStack(item);
+                stack.setCount(Math.min(remaining, item.getMaxCount()));
+                supply.add(stack);
+                plan.sourceSlots.add(-1);
+                plan.sourceCounts.add(0);
+            }
+            plan.available = count;
+        } else {
+            final int sourceSize = source.getInvSize();
+            for (int slot = 0; (slot < sourceSize) && (plan.available < count); slot++) {
+                ItemStack stack = source.getInvStack(slot);
+                if (stack.getItem() != item)
+                    continue;
+                
+                supply.add(stack);
+                plan.sourceSlots.add(slot);
+                plan.sourceCounts.add(0);
+                plan.available += Math.min(stack.getCount(), count - plan.available);
+            }
+        }
+        
+        // Find the slots that can take the item
+        final int targetSize = (target == null ? 0 : (target instanceof PlayerInventory ? ((PlayerInventory) target).main.size() : target.getInvSize()));
+        for (int slot = 0; slot < targetSize; slot++) {
+            ItemStack stack = target.getInvStack(slot);
+            if (stack.isEmpty() || ((stack.getItem() == item) && (stack.getCount() < stack.getMaxCount()))) {
+                plan.targetSlots.add(slot);
+                plan.targetStacks.add(stack.isEmpty() ? ItemStack.EMPTY : stack.copy());
+            }
+        }
+        
+        // Match the supply with the space
+        for (int i = 0; (i < supply.size()) && (plan.moved < plan.available); i++) {
+            ItemStack stack = supply.get(i);
+            int remaining = Math.min(stack.getCount(), plan.available - plan.moved);
+            int placed = (target == null ? remaining : plan.place(stack, remaining));
+            
+            plan.sourceCounts.set(i, placed);
+            plan.moved += placed;
+            
+            // Nowhere left to put the items
+            if (placed < remaining)
+                break;
+        }
+        
+        return plan;
+    }
+    private int place(@NotNull ItemStack stack, int count) {
+        int placed = 0;
+        
+        // Fill stacks that are already started
+        for (int i = 0; (i < this.targetStacks.size()) && (placed < count); i++) {
+            ItemStack planned = this.targetStacks.get(i);
+            if ((!planned.isEmpty()) && (planned.getItem() == stack.getItem()) && ItemStack.areTagsEqual(planned, stack)) {
+                int put = Math.min(planned.getMaxCount() - planned.getCount(), count - placed);
+                planned.setCount(planned.getCount() + put);
+                placed += put;
+            }
+        }
+        
+        // Fill empty slots
+        for (int i = 0; (i < this.targetStacks.size()) && (placed < count); i++) {
+            if (this.targetStacks.get(i).isEmpty()) {
+                ItemStack planned = stack.copy();
+                planned.setCount(Math.min(stack.getMaxCount(), count - placed));
+                this.targetStacks.set(i, planned);
+                placed += planned.getCount();
+            }
+        }
+        
+        return placed;
+    }
+    
+    /*
+     * Checks
+     */
+    public boolean hasStock() {
+        return this.available >= this.requested;
+    }
+    public boolean isComplete() {
+        return this.moved >= this.requested;
+    }
+    public int getCount() {
+        return this.moved;
+    }
+    
+    /*
+     * Commit
+     */
+    public void commit() {
+        if (this.committed)
+            throw new IllegalStateException("Transfer has already been committed");
+        this.committed = true;
+        
+        // Take from the source
+        if (this.source != null) {
+            for (int i = 0; i < this.sourceSlots.size(); i++) {
+                int take = this.sourceCounts.getInt(i);
+                if (take <= 0)
+                    continue;
+                ItemStack stack = this.source.getInvStack(this.sourceSlots.getInt(i));
+                stack.setCount(stack.getCount() - take);
+            }
+            this.source.markDirty();
+        }
+        
+        // Put into the target
+        if (this.target != null) {
+            for (int i = 0; i < this.targetSlots.size(); i++) {
+                ItemStack planned = this.targetStacks.get(i);
+                if (!planned.isEmpty())
+                    this.target.setInvStack(this.targetSlots.getInt(i), planned);
+            }
+            this.target.markDirty();
+        }
+    }
+    
+}
@@ -0,0 +1,108 @@
+/*
+ * This software is licensed under the MIT License
+ * https://github.com/GStefanowich/MC-Server-Protection
+ *
+ * Copyright (c) 2019 Gregory Stefanowich
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package net.TheElm.project.protections.claiming;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMaps;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.TheElm.project.interfaces.IClaimedChunk;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.World;
+import net.minecraft.world.dimension.DimensionType;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/*
+ * Resolves the owner of a chunk without ever asking the world to load it.
+ * Owners are recorded when claimed chunks are loaded from disk or change hands,
+ * so only claimed chunks are held in memory.
+ */
+public final class ChunkOwners {
+    
+    private static final Map<DimensionType, Long2ObjectMap<UUID>> OWNERS = new HashMap<>();
+    
+    private ChunkOwners() {}
+    
+    /*
+     * Maintained by the claimed chunks
+     */
+    public static void update(@NotNull World world, @NotNull ChunkPos chunkPos, @Nullable UUID owner) {
+        Long2ObjectMap<UUID> owners = ChunkOwners.getDimension( world );
+        if (owner == null)
+            owners.remove( chunkPos.toLong() );
+        else
+            owners.put( chunkPos.toLong(), owner );
+    }
+    
+    /**
+     * @param world The world to check
+     * @param blockPos The position to check
+     * @return If the owner of the position is known without loading the chunk
+     */
+    public static boolean isResolvable(@NotNull World world, @NotNull BlockPos blockPos) {
+        int chunkX = blockPos.getX() >> 4;
+        int chunkZ = blockPos.getZ() >> 4;
+        return ChunkOwners.getDimension( world ).containsKey(ChunkPos.toLong( chunkX, chunkZ ))
+            || world.isChunkLoaded( chunkX, chunkZ );
+    }
+    
+    /**
+     * @param world The world to check
+     * @param blockPos The position to check
+     * @return The owner of the chunk, or NULL if the chunk is unclaimed or not resolvable
+     */
+    @Nullable
+    public static UUID getOwner(@NotNull World world, @NotNull BlockPos blockPos) {
+        return ChunkOwners.getDimension( world ).get(ChunkPos.toLong( blockPos.getX() >> 4, blockPos.getZ() >> 4 ));
+    }
+    
+    /**
+     * @param world The world to check
+     * @param blockPos The position to check
+     * @return The chunk at the position, or NULL if it is not currently loaded
+     */
+    @Nullable
+    public static IClaimedChunk getLoadedChunk(@NotNull World world, @NotNull BlockPos blockPos) {
+        int chunkX = blockPos.getX() >> 4;
+        int chunkZ = blockPos.getZ() >> 4;
+        if (!world.isChunkLoaded( chunkX, chunkZ ))
+            return null;
+        return (IClaimedChunk) world.getChunk( chunkX, chunkZ );
+    }
+    
+    @NotNull
+    private static Long2ObjectMap<UUID> getDimension(@NotNull World world) {
+        synchronized ( OWNERS ) {
+            return OWNERS.computeIfAbsent(world.dimension.getType(), (dimension) -> Long2ObjectMaps.synchronize(new Long2ObjectOpenHashMap<>()));
+        }
+    }
+    
+}
@@ -25,6 +25,11 @@
 
 package net.TheElm.project.protections.claiming;
 
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
 import net.TheElm.project.CoreMod;
 import net.TheElm.project.enums.ClaimPermissions;
 import net.TheElm.project.enums.ClaimRanks;
@@ -45,21 +50,24 @@ import org.jetbrains.annotations.Nullable;
 
 import java.util.Collections;
 import java.util.HashMap;
-import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
-import java.util.function.Consumer;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public abstract class Claimant {
     
     protected final Map<UUID, ClaimRanks> USER_RANKS = Collections.synchronizedMap(new HashMap<>());
     protected final Map<ClaimSettings, Boolean> CHUNK_CLAIM_OPTIONS = Collections.synchronizedMap(new HashMap<>());
     protected final Map<ClaimPermissions, ClaimRanks> RANK_PERMISSIONS = Collections.synchronizedMap(new HashMap<>());
-    protected final Set<int[]> CLAIMED_CHUNKS = Collections.synchronizedSet(new LinkedHashSet<>());
+    protected final Int2ObjectMap<LongSet> CLAIMED_CHUNKS = new Int2ObjectOpenHashMap<>(); // Packed chunk positions by dimension
     
     private boolean dirty = false;
     
+    // Loaded chunks and online players holding this claimant in the cache
+    private final AtomicInteger references = new AtomicInteger();
+    private volatile long lastUsed = System.currentTimeMillis();
+    
     private final ClaimantType type;
     private final UUID id;
     
@@ -129,42 +137,80 @@ public abstract class Claimant {
         return this.type;
     }
     public final void addToCount(WorldChunk... chunks) {
-        for (WorldChunk chunk : chunks) {
-            ChunkPos pos = chunk.getPos();
-            this.CLAIMED_CHUNKS.add(new int[]{
-                chunk.getWorld().dimension.getType().getRawId(),
-                pos.x,
-                pos.z
-            });
+        synchronized (this.CLAIMED_CHUNKS) {
+            for (WorldChunk chunk : chunks) {
+                this.CLAIMED_CHUNKS.computeIfAbsent(chunk.getWorld().dimension.getType().getRawId(), (dimension) -> new LongOpenHashSet())
+                    .add(chunk.getPos().toLong());
+            }
         }
         this.markDirty();
     }
     public final void removeFromCount(WorldChunk... chunks) {
-        for (WorldChunk chunk : chunks) {
-            ChunkPos pos = chunk.getPos();
-            this.CLAIMED_CHUNKS.removeIf((array) -> (
-                array[0] == chunk.getWorld().dimension.getType().getRawId()
-                && array[1] == pos.x
-                && array[2] == pos.z
-            ));
+        synchronized (this.CLAIMED_CHUNKS) {
+            for (WorldChunk chunk : chunks) {
+                LongSet claimed = this.CLAIMED_CHUNKS.get(chunk.getWorld().dimension.getType().getRawId());
+                if (claimed != null)
+                    claimed.remove(chunk.getPos().toLong());
+            }
         }
         this.markDirty();
     }
+    public final boolean hasChunk(WorldChunk chunk) {
+        synchronized (this.CLAIMED_CHUNKS) {
+            LongSet claimed = this.CLAIMED_CHUNKS.get(chunk.getWorld().dimension.getType().getRawId());
+            return (claimed != null) && claimed.contains(chunk.getPos().toLong());
+        }
+    }
     public final int getCount() {
-        return this.CLAIMED_CHUNKS.size();
+        synchronized (this.CLAIMED_CHUNKS) {
+            int count = 0;
+            for (LongSet claimed : this.CLAIMED_CHUNKS.values())
+                count += claimed.size();
+            return count;
+        }
     }
-    public final void forEachChunk(Consumer<int[]> action) {
-        for (int[] it : new LinkedHashSet<>(this.CLAIMED_CHUNKS)) {
-            action.accept(it);
+    /**
+     * Iterate the claimed chunks in place, the action must not claim or unclaim chunks
+     */
+    public final void forEachChunk(ChunkConsumer action) {
+        synchronized (this.CLAIMED_CHUNKS) {
+            for (Int2ObjectMap.Entry<LongSet> entry : this.CLAIMED_CHUNKS.int2ObjectEntrySet()) {
+                LongIterator iterator = entry.getValue().iterator();
+                while (iterator.hasNext()) {
+                    long pos = iterator.nextLong();
+                    action.accept(entry.getIntKey(), ChunkPos.getPackedX(pos), ChunkPos.getPackedZ(pos));
+                }
+            }
         }
     }
     
-    /* Nbt saving */
-    @Override
-    public final void finalize() {
-        // Save before trashing
+    /* Cache lifecycle */
+    public final void acquire() {
+        this.references.incrementAndGet();
+        this.lastUsed = System.currentTimeMillis();
+    }
+    public final void release() {
+        this.references.decrementAndGet();
+        this.lastUsed = System.currentTimeMillis();
+    }
+    public final void touch() {
+        this.lastUsed = System.currentTimeMillis();
+    }
+    /**
+     * @param idleMillis How long the claimant must have gone unused
+     * @return If nothing holds the claimant and it can be dropped from the cache
+     */
+    public final boolean isEvictable(long idleMillis) {
+        return (this.references.get() <= 0) && ((System.currentTimeMillis() - this.lastUsed) >= idleMillis);
+    }
+    /**
+     * Called when the claimant is dropped from the cache
+     */
+    public void evict() {
         this.save();
     }
+    
+    /* Nbt saving */
     public final void markDirty() {
         this.dirty = true;
     }
@@ -180,9 +226,7 @@ public abstract class Claimant {
     public void writeCustomDataToTag(@NotNull CompoundTag tag) {
         // Save our chunks
         ListTag chunkList = new ListTag();
-        for (int[] array : this.CLAIMED_CHUNKS) {
-            chunkList.add(new IntArrayTag( array ));
-        }
+        this.forEachChunk((dimension, x, z) -> chunkList.add(new IntArrayTag(new int[]{ dimension, x, z })));
         tag.put("landChunks", chunkList);
         
         // Save our list of friends
@@ -230,8 +274,13 @@ public abstract class Claimant {
         
         // Get the claim size
         if (tag.contains("landChunks", NbtType.LIST)) {
-            for (Tag it : tag.getList("landChunks",NbtType.INT_ARRAY)) {
-                this.CLAIMED_CHUNKS.add(((IntArrayTag) it).getIntArray());
+            synchronized (this.CLAIMED_CHUNKS) {
+                for (Tag it : tag.getList("landChunks",NbtType.INT_ARRAY)) {
+                    int[] array = ((IntArrayTag) it).getIntArray();
+                    if (array.length == 3)
+                        this.CLAIMED_CHUNKS.computeIfAbsent(array[0], (dimension) -> new LongOpenHashSet())
+                            .add(ChunkPos.toLong(array[1], array[2]));
+                }
             }
         }
         
@@ -269,6 +318,11 @@ public abstract class Claimant {
         }
     }
     
+    @FunctionalInterface
+    public interface ChunkConsumer {
+        void accept(int dimension, int x, int z);
+    }
+    
     public enum ClaimantType {
         TOWN,
         PLAYER
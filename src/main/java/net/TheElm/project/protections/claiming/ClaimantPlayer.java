@@ -73,6 +73,11 @@ public final class ClaimantPlayer extends Claimant {
         return town.getId();
     }
     public final void setTown(@Nullable ClaimantTown town) {
+        if (this.town != town) {
+            // Keep our town in the cache for as long as we are
+            if (this.town != null) this.town.release();
+            if (town != null) town.acquire();
+        }
         this.town = town;
         this.markDirty();
     }
@@ -112,7 +117,17 @@ public final class ClaimantPlayer extends Claimant {
         return this.name.copy();
     }
     public final Text updateName() {
-        return PlayerNameUtils.fetchPlayerNick( this.getId() );
+        // Replace the placeholder name once the lookup finishes
+        return PlayerNameUtils.fetchPlayerNick( this.getId(), (name) -> this.name = name );
+    }
+    
+    /* Cache lifecycle */
+    @Override
+    public void evict() {
+        super.evict();
+        
+        // Let go of our town
+        if (this.town != null) this.town.release();
     }
     
     /* Claimed chunk options */
@@ -122,11 +137,11 @@ public final class ClaimantPlayer extends Claimant {
         return setting.getDefault( this.getId() );
     }
     public final int getMaxChunkLimit() {
-        return this.additionalClaims + SewingMachineConfig.INSTANCE.PLAYER_CLAIMS_LIMIT.get();
+        return this.additionalClaims + SewingMachineConfig.INSTANCE.snapshot().PLAYER_CLAIMS_LIMIT;
     }
     public final int increaseMaxChunkLimit(int by) {
         this.markDirty();
-        return (this.additionalClaims += by) + SewingMachineConfig.INSTANCE.PLAYER_CLAIMS_LIMIT.get();
+        return (this.additionalClaims += by) + SewingMachineConfig.INSTANCE.snapshot().PLAYER_CLAIMS_LIMIT;
     }
     
     /* Nbt saving */
@@ -152,6 +167,7 @@ public final class ClaimantPlayer extends Claimant {
                 if ((town != null) && town.getFriendRank(this.getId()) == null) town = null;
             } catch (NbtNotFoundException ignored) {}
         }
+        if (town != null) town.acquire();
         this.town = town;
         
         // Additional claim limit
@@ -167,8 +183,10 @@ public final class ClaimantPlayer extends Claimant {
         ClaimantPlayer player;
         
         // If contained in the cache
-        if ((player = CoreMod.getFromCache( ClaimantPlayer.class, playerUUID )) != null)
+        if ((player = CoreMod.getFromCache( ClaimantPlayer.class, playerUUID )) != null) {
+            player.touch();
             return player;
+        }
         
         // Create new object
         return new ClaimantPlayer( playerUUID );
@@ -171,14 +171,16 @@ public final class ClaimantTown extends Claimant {
         ClaimantTown town;
         
         // If claims are disabled
-        if ((!SewingMachineConfig.INSTANCE.DO_CLAIMS.get()) || (townId == null))
+        if ((!SewingMachineConfig.INSTANCE.snapshot().DO_CLAIMS) || (townId == null))
             return null;
         
         NbtUtils.assertExists( ClaimantType.TOWN, townId );
         
         // If contained in the cache
-        if ((town = CoreMod.getFromCache( ClaimantTown.class, townId )) != null)
+        if ((town = CoreMod.getFromCache( ClaimantTown.class, townId )) != null) {
+            town.touch();
             return town;
+        }
         
         // Return the town object
         return new ClaimantTown( townId );
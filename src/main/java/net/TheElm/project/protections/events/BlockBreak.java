@@ -98,7 +98,7 @@ public final class BlockBreak {
      */
     private static ActionResult blockBreak(@Nullable final Entity entity, @NotNull final ServerWorld world, @NotNull final Hand hand, @NotNull final BlockPos blockPos, @Nullable final Direction blockFace, @Nullable final Action action) {
         ActionResult result;
-        if (((result = BlockBreak.canBlockBreak( entity, world, hand, blockPos, blockFace, action)) != ActionResult.FAIL) && SewingMachineConfig.INSTANCE.LOG_BLOCKS_BREAKING.get() && (action == Action.STOP_DESTROY_BLOCK))
+        if (((result = BlockBreak.canBlockBreak( entity, world, hand, blockPos, blockFace, action)) != ActionResult.FAIL) && SewingMachineConfig.INSTANCE.snapshot().LOG_BLOCKS_BREAKING && (action == Action.STOP_DESTROY_BLOCK))
             BlockBreak.onSucceedBreak( entity, world, hand, blockPos, blockFace );
         return result;
     }
@@ -121,7 +121,7 @@ public final class BlockBreak {
             ServerPlayerEntity player = (ServerPlayerEntity) entity;
             
             // If player is in creative
-            if ((player.isCreative() && SewingMachineConfig.INSTANCE.CLAIM_CREATIVE_BYPASS.get()) || (action == Action.ABORT_DESTROY_BLOCK))
+            if ((player.isCreative() && SewingMachineConfig.INSTANCE.snapshot().CLAIM_CREATIVE_BYPASS) || (action == Action.ABORT_DESTROY_BLOCK))
                 return ActionResult.PASS;
             
             BlockState blockState = world.getBlockState(blockPos);
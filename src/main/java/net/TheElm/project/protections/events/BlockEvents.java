@@ -25,6 +25,11 @@
 
 package net.TheElm.project.protections.events;
 
+import it.unimi.dsi.fastutil.longs.LongArrayFIFOQueue;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.longs.LongList;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
 import net.TheElm.project.CoreMod;
 import net.TheElm.project.enums.ClaimSettings;
 import net.TheElm.project.utilities.ChunkUtils;
@@ -38,14 +43,18 @@ import net.minecraft.util.ActionResult;
 import net.minecraft.util.Hand;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.Direction;
+import net.minecraft.world.dimension.DimensionType;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.Arrays;
-import java.util.HashSet;
-import java.util.Set;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
 
 public class BlockEvents {
+    private static final Direction[] DIRECTIONS = Direction.values();
+    
     private BlockEvents() {}
     
     /*
@@ -66,6 +75,13 @@ public class BlockEvents {
     /*
      * Vein Miner
      */
+    // The most ore blocks to break at once
+    private static final int MAX_VEIN_SIZE = 256;
+    // How many ore blocks each world breaks per tick
+    private static final int BREAKS_PER_TICK = 16;
+    
+    private static final Map<DimensionType, Deque<VeinBreak>> PENDING_BREAKS = new HashMap<>();
+    
     public static ActionResult eventVeinMiner(@NotNull final ServerPlayerEntity player, @NotNull final ServerWorld world, @NotNull final Hand hand, @NotNull final BlockPos blockPos, @Nullable final Direction blockFace) {
         BlockState blockState = world.getBlockState( blockPos );
         Block block = blockState.getBlock();
@@ -73,52 +89,93 @@ public class BlockEvents {
         if (!(ChunkUtils.isSetting(ClaimSettings.VEIN_MINER, world, blockPos) && block instanceof OreBlock && player.isSneaking()))
             return ActionResult.PASS;
         
-        Set<BlockPos> ores = BlockEvents.gatherOreVein(block, world, blockPos);
+        LongList ores = BlockEvents.gatherOreVein(player, block, world, hand, blockPos, blockFace);
         CoreMod.logInfo("Broke an ore block, got " + ores.size() + " others");
-        for (BlockPos pos : ores) {
-            if (BlockBreak.canBlockBreak(player, world, hand, pos, blockFace, null ) != ActionResult.FAIL)
-                world.breakBlock( pos, true, player );
-        }
+        
+        // Break the ores over the next few ticks
+        if (!ores.isEmpty())
+            PENDING_BREAKS.computeIfAbsent( world.dimension.getType(), (dimension) -> new ArrayDeque<>() )
+                .add(new VeinBreak( player, block, ores ));
         
         return ActionResult.SUCCESS;
     }
-    private static Set<BlockPos> gatherOreVein(@NotNull final Block block, @NotNull final ServerWorld world, @NotNull final BlockPos originPos) {
-        Set<BlockPos> set = new HashSet<>();
+    private static LongList gatherOreVein(@NotNull final ServerPlayerEntity player, @NotNull final Block block, @NotNull final ServerWorld world, @NotNull final Hand hand, @NotNull final BlockPos originPos, @Nullable final Direction blockFace) {
+        LongList ores = new LongArrayList();
+        LongSet visited = new LongOpenHashSet();
+        LongArrayFIFOQueue queue = new LongArrayFIFOQueue();
+        
+        BlockPos.Mutable searchPos = new BlockPos.Mutable();
+        visited.add( originPos.asLong() );
+        queue.enqueue( originPos.asLong() );
         
         // Get all of the adjacent ores
-        BlockEvents.gatherOreVein(block, world, originPos, set);
+        while ((!queue.isEmpty()) && (visited.size() < MAX_VEIN_SIZE)) {
+            long pos = queue.dequeueLong();
+            int x = BlockPos.unpackLongX( pos );
+            int y = BlockPos.unpackLongY( pos );
+            int z = BlockPos.unpackLongZ( pos );
+            
+            for (Direction direction : DIRECTIONS) {
+                searchPos.set( x + direction.getOffsetX(), y + direction.getOffsetY(), z + direction.getOffsetZ() );
+                long search = searchPos.asLong();
+                
+                // If ore type is equal
+                if ((visited.size() >= MAX_VEIN_SIZE) || (!world.getBlockState( searchPos ).getBlock().equals( block )) || (!visited.add( search )))
+                    continue;
+                queue.enqueue( search );
+                
+                // Check the claim at each position, inner claims can differ within a chunk
+                if (BlockBreak.canBlockBreak(player, world, hand, searchPos.toImmutable(), blockFace, null) != ActionResult.FAIL)
+                    ores.add( search );
+            }
+        }
         
-        return set;
+        return ores;
     }
-    private static void gatherOreVein(@NotNull final Block block, @NotNull final ServerWorld world, @NotNull final BlockPos originPos, @NotNull Set<BlockPos> set, Direction... directions) {
-        // For all possible directions
-        for (Direction direction : Direction.values()) {
-            Set<Direction> directionSet = new HashSet<>(Arrays.asList( directions ));
-            if (directionSet.contains( direction ))
+    
+    /**
+     * Break the pending vein miner blocks for the world, up to a limit
+     * @param world The world to break blocks in
+     */
+    public static void breakPending(@NotNull final ServerWorld world) {
+        Deque<VeinBreak> pending = PENDING_BREAKS.get( world.dimension.getType() );
+        if ((pending == null) || pending.isEmpty())
+            return;
+        
+        BlockPos.Mutable blockPos = new BlockPos.Mutable();
+        int budget = BREAKS_PER_TICK;
+        while ((budget > 0) && (!pending.isEmpty())) {
+            VeinBreak vein = pending.peek();
+            
+            // Stop if the player left
+            if (vein.player.removed) {
+                pending.poll();
                 continue;
+            }
             
-            BlockPos searchPos = originPos.offset( direction );
-            BlockState state = world.getBlockState( searchPos );
+            long pos = vein.ores.getLong( vein.next++ );
+            blockPos.set( BlockPos.unpackLongX( pos ), BlockPos.unpackLongY( pos ), BlockPos.unpackLongZ( pos ) );
+            if (vein.next >= vein.ores.size())
+                pending.poll();
             
-            // If ore type is equal
-            if (state.getBlock().equals( block )) {
-                boolean added = true;
-                
-                // Add the currently location to the list
-                added = set.add( searchPos );
-                
-                // Get more adjacent ore
-                directionSet.add( direction.getOpposite() );
-                
-                // If position was added to the set (Not already in the set)
-                if ( added ) BlockEvents.gatherOreVein(
-                    block,
-                    world,
-                    searchPos,
-                    set,
-                    directionSet.toArray(new Direction[0])
-                );
+            // Only break ores that are still there
+            if (world.getBlockState( blockPos ).getBlock().equals( vein.block )) {
+                world.breakBlock( blockPos.toImmutable(), true, vein.player );
+                budget--;
             }
         }
     }
+    
+    private static final class VeinBreak {
+        private final ServerPlayerEntity player;
+        private final Block block;
+        private final LongList ores;
+        private int next = 0;
+        
+        private VeinBreak(@NotNull ServerPlayerEntity player, @NotNull Block block, @NotNull LongList ores) {
+            this.player = player;
+            this.block = block;
+            this.ores = ores;
+        }
+    }
 }
@@ -32,6 +32,7 @@ import net.TheElm.project.enums.ShopSigns;
 import net.TheElm.project.interfaces.BlockInteractionCallback;
 import net.TheElm.project.interfaces.IClaimedChunk;
 import net.TheElm.project.interfaces.ShopSignBlockEntity;
+import net.TheElm.project.objects.ShopIndex;
 import net.TheElm.project.protections.logging.BlockEvent;
 import net.TheElm.project.protections.logging.EventLogger;
 import net.TheElm.project.utilities.ChunkUtils;
@@ -92,6 +93,10 @@ public final class BlockInteraction {
             ShopSigns shopSignType;
             // Interact with the sign
             if ((shopSign.getShopOwner() != null) && ((shopSignType = shopSign.getShopType()) != null)) {
+                // Add shops built before the index existed
+                if (!ShopIndex.isTracked( world, blockPos ))
+                    ShopIndex.track( world, blockPos, shopSign );
+                
                 shopSignType.onInteract(player, blockPos, shopSign)
                     // Literal Text (Error)
                     .ifLeft((text) -> {
@@ -111,14 +116,14 @@ public final class BlockInteraction {
         ClaimPermissions blockPermission;
         
         // If player is in creative ignore permissions
-        if (!SewingMachineConfig.INSTANCE.DO_CLAIMS.get())
+        if (!SewingMachineConfig.INSTANCE.snapshot().DO_CLAIMS)
             return ActionResult.PASS;
         
         // If block is a button, door, trapdoor, or gate
         if ( block instanceof AbstractButtonBlock || block instanceof DoorBlock || block instanceof FenceGateBlock || block instanceof TrapdoorBlock) {
             WorldChunk claimedChunkInfo = player.getEntityWorld().getWorldChunk( blockPos );
             
-            if ((player.isCreative() && SewingMachineConfig.INSTANCE.CLAIM_CREATIVE_BYPASS.get()) || ChunkUtils.canPlayerToggleDoor( player, claimedChunkInfo, blockPos )) {
+            if ((player.isCreative() && SewingMachineConfig.INSTANCE.snapshot().CLAIM_CREATIVE_BYPASS) || ChunkUtils.canPlayerToggleDoor( player, claimedChunkInfo, blockPos )) {
                 // Toggle double doors
                 if ((!player.isSneaking()) && block instanceof DoorBlock && (blockState.getMaterial() != Material.METAL)) {
                     DoubleBlockHalf doorHalf = blockState.get(DoorBlock.HALF);
@@ -150,7 +155,7 @@ public final class BlockInteraction {
         }
         
         // If player is in creative, allow
-        if (player.isCreative() && SewingMachineConfig.INSTANCE.CLAIM_CREATIVE_BYPASS.get())
+        if (player.isCreative() && SewingMachineConfig.INSTANCE.snapshot().CLAIM_CREATIVE_BYPASS)
             return ActionResult.PASS;
         
         // If the block is something that can be accessed (Like a chest)
@@ -207,7 +212,7 @@ public final class BlockInteraction {
         
         // Test if allowed
         ActionResult result;
-        if (((result = BlockInteraction.canBlockPlace(player, blockPos, blockHitResult)) != ActionResult.FAIL) && SewingMachineConfig.INSTANCE.LOG_BLOCKS_BREAKING.get()) {
+        if (((result = BlockInteraction.canBlockPlace(player, blockPos, blockHitResult)) != ActionResult.FAIL) && SewingMachineConfig.INSTANCE.snapshot().LOG_BLOCKS_BREAKING) {
             if (itemStack.getItem() instanceof BlockItem)
                 EventLogger.log(new BlockEvent(player, EventLogger.BlockAction.PLACE, ((BlockItem)itemStack.getItem()).getBlock(), blockPos));
             else
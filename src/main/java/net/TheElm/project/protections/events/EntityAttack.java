@@ -126,7 +126,7 @@ public final class EntityAttack {
             }
             
             // If the player is in creative, allow
-            if (player.isCreative() && SewingMachineConfig.INSTANCE.CLAIM_CREATIVE_BYPASS.get())
+            if (player.isCreative() && SewingMachineConfig.INSTANCE.snapshot().CLAIM_CREATIVE_BYPASS)
                 return ActionResult.PASS;
             
             // Get chunk protection
@@ -136,8 +136,8 @@ public final class EventLogger implements Runnable {
         if (action instanceof BlockEvent) {
             BlockEvent blockAction = (BlockEvent) action;
             if (
-                (blockAction.getAction() == BlockAction.BREAK) && (!SewingMachineConfig.INSTANCE.LOG_BLOCKS_BREAKING.get())
-                || (blockAction.getAction() == BlockAction.PLACE) && (!SewingMachineConfig.INSTANCE.LOG_BLOCKS_PLACING.get())
+                (blockAction.getAction() == BlockAction.BREAK) && (!SewingMachineConfig.INSTANCE.snapshot().LOG_BLOCKS_BREAKING)
+                || (blockAction.getAction() == BlockAction.PLACE) && (!SewingMachineConfig.INSTANCE.snapshot().LOG_BLOCKS_PLACING)
             ) return false;
         }
         // Store the log action
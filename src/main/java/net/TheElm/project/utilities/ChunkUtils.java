@@ -33,6 +33,7 @@ import net.TheElm.project.enums.ClaimSettings;
 import net.TheElm.project.interfaces.Claim;
 import net.TheElm.project.interfaces.IClaimedChunk;
 import net.TheElm.project.protections.claiming.ClaimantPlayer;
+import net.TheElm.project.protections.claiming.ClaimantTown;
 import net.minecraft.entity.player.PlayerEntity;
 import net.minecraft.server.network.ServerPlayerEntity;
 import net.minecraft.server.world.ServerWorld;
@@ -64,7 +65,7 @@ public final class ChunkUtils {
     }
     public static boolean canPlayerDoInChunk(@NotNull ClaimPermissions perm, @NotNull PlayerEntity player, @Nullable WorldChunk chunk, @NotNull BlockPos blockPos) {
         // If claims are disabled
-        if ((!SewingMachineConfig.INSTANCE.DO_CLAIMS.get()) || player.isCreative()) return true;
+        if ((!SewingMachineConfig.INSTANCE.snapshot().DO_CLAIMS) || player.isCreative()) return true;
         
         // Check if player can do action in chunk
         return ChunkUtils.canPlayerDoInChunk( perm, player.getUuid(), chunk, blockPos );
@@ -77,6 +78,26 @@ public final class ChunkUtils {
         return ((IClaimedChunk) chunk).canPlayerDo( blockPos, playerId, perm );
     }
     
+    /**
+     * If the owner of a claim, or the town that it is part of, allows a player to perform an action
+     * @param owner The owner of the claim
+     * @param town The town that the claim is part of
+     * @param player The player performing the action
+     * @param perm The action being performed
+     * @return If the action is allowed
+     */
+    public static boolean canPlayerDoInClaim(@NotNull ClaimantPlayer owner, @Nullable ClaimantTown town, @Nullable UUID player, @NotNull ClaimPermissions perm) {
+        if ((player != null) && (player.equals(owner.getId()) || ((town != null) && player.equals(town.getOwner()))))
+            return true;
+        
+        // Get the ranks of the user and the rank required for performing
+        ClaimRanks userRank = owner.getFriendRank( player );
+        ClaimRanks permReq = owner.getPermissionRankRequirement( perm );
+        
+        // Return the test if the user can perform the action (If friend of chunk owner OR if friend of town and chunk owned by town owner)
+        return permReq.canPerform( userRank ) || ((town != null) && (owner.getId().equals( town.getOwner() )) && permReq.canPerform(town.getFriendRank( player )));
+    }
+    
     /**
      * Check the database if a user can ride entities within the specified chunk
      * @param player The player to check
@@ -172,7 +193,7 @@ public final class ChunkUtils {
      * @return If the player is a high enough rank to teleport to the target
      */
     public static boolean canPlayerWarpTo(PlayerEntity player, UUID target) {
-        if (!SewingMachineConfig.INSTANCE.DO_CLAIMS.get())
+        if (!SewingMachineConfig.INSTANCE.snapshot().DO_CLAIMS)
             return SewingMachineConfig.INSTANCE.COMMAND_WARP_TPA.get();
         
         // Check our chunk permissions
@@ -256,7 +277,7 @@ public final class ChunkUtils {
         return CoreMod.PLAYER_LOCATIONS.get( player );
     }
     public static boolean isPlayerWithinSpawn(@NotNull final ServerPlayerEntity player) {
-        if (!SewingMachineConfig.INSTANCE.DO_CLAIMS.get())
+        if (!SewingMachineConfig.INSTANCE.snapshot().DO_CLAIMS)
             return true;
         return CoreMod.spawnID.equals(ChunkUtils.getPlayerLocation( player ));
     }
@@ -316,8 +337,9 @@ public final class ChunkUtils {
     }
     public static final class InnerClaim implements Claim {
         
+        // Only the UUID is kept, the claimant is looked up from the cache for each check
         @Nullable
-        private final ClaimantPlayer owner;
+        private final UUID owner;
         private final int yUpper;
         private final int yLower;
         
@@ -325,16 +347,14 @@ public final class ChunkUtils {
             this( owner, -1, -1 );
         }
         public InnerClaim(@Nullable UUID owner, int upper, int lower) {
-            this.owner = (owner == null ? null : ClaimantPlayer.get( owner ));
+            this.owner = owner;
             this.yUpper = ( upper > 256 ? 256 : Collections.max(Arrays.asList( upper, lower )));
             this.yLower = Math.max( lower, -1 );
         }
         
         @Nullable
         public UUID getOwner() {
-            if (this.owner == null)
-                return null;
-            return this.owner.getId();
+            return this.owner;
         }
         public int upper() {
             return this.yUpper;
@@ -348,10 +368,11 @@ public final class ChunkUtils {
             if (player != null && player.equals(this.getOwner()))
                 return true;
             assert this.owner != null;
+            ClaimantPlayer owner = ClaimantPlayer.get( this.owner );
             
             // Get the ranks of the user and the rank required for performing
-            ClaimRanks userRank = this.owner.getFriendRank( player );
-            ClaimRanks permReq = this.owner.getPermissionRankRequirement( perm );
+            ClaimRanks userRank = owner.getFriendRank( player );
+            ClaimRanks permReq = owner.getPermissionRankRequirement( perm );
             
             // Return the test if the user can perform the action (If friend of chunk owner OR if friend of town and chunk owned by town owner)
             return permReq.canPerform( userRank );
@@ -361,7 +382,7 @@ public final class ChunkUtils {
         public boolean isSetting(@NotNull ClaimSettings setting) {
             if (this.owner == null)
                 return setting.getDefault( null );
-            return this.owner.getProtectedChunkSetting( setting );
+            return ClaimantPlayer.get( this.owner ).getProtectedChunkSetting( setting );
         }
     }
     
@@ -26,6 +26,7 @@
 package net.TheElm.project.utilities;
 
 import net.TheElm.project.CoreMod;
+import net.TheElm.project.config.ConfigSnapshot;
 import net.TheElm.project.config.SewingMachineConfig;
 import net.TheElm.project.interfaces.PlayerCorpse;
 import net.minecraft.block.Block;
@@ -48,55 +49,93 @@ import net.minecraft.util.Hand;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.Direction;
 import net.minecraft.util.math.EulerAngle;
+import net.minecraft.world.Heightmap;
 import net.minecraft.world.World;
+import net.minecraft.world.chunk.ChunkSection;
+import net.minecraft.world.chunk.WorldChunk;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.Arrays;
-import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Map;
 
 public final class DeathChestUtils {
     
     private DeathChestUtils() {}
     
+    // What is known about a chunk section
+    private static final byte SECTION_UNKNOWN = 0;
+    private static final byte SECTION_EMPTY = 1;
+    private static final byte SECTION_SOLID = 2;
+    private static final byte SECTION_MIXED = 3;
+    
+    // The X, Z offsets of a square spiral, from the center outward
+    private static int[] spiral = new int[0];
+    private static int spiralRadius = -1;
+    
     @Nullable
     public static BlockPos getChestPosition(World world, BlockPos deathPoint) {
-        BlockPos out = null;
+        ConfigSnapshot config = SewingMachineConfig.INSTANCE.snapshot();
+        int[] offsets = DeathChestUtils.getSpiral( config.MAX_DEATH_SCAN );
+        int columns = offsets.length / 2;
         
-        int tmp = SewingMachineConfig.INSTANCE.MAX_DEATH_SCAN.get();
-        int maxI = 1 + ((tmp * tmp) * 4) + (tmp * 4);
+        // Only search columns in chunks that are already loaded
+        WorldChunk[] chunks = new WorldChunk[columns];
+        for (int i = 0; i < columns; i++) {
+            int chunkX = (deathPoint.getX() + offsets[i * 2]) >> 4;
+            int chunkZ = (deathPoint.getZ() + offsets[i * 2 + 1]) >> 4;
+            if (world.isChunkLoaded( chunkX, chunkZ ))
+                chunks[i] = world.getChunk( chunkX, chunkZ );
+        }
         
-        int upper = Collections.min(Arrays.asList( 256, deathPoint.getY() + SewingMachineConfig.INSTANCE.MAX_DEATH_ELEVATION.get() ));
-        for ( int y = deathPoint.getY(); y < upper; y++ ) {
-            int x = 0;
-            int z = 0;
-            int dX = 0;
-            int dZ = -1;
-            
-            for (int i = 0; i < maxI; i++) {
-                BlockPos check = new BlockPos(x + deathPoint.getX(), y, z + deathPoint.getZ());
-                if ((out = DeathChestUtils.isValid(world, check)) != null)
+        // What each section of the chunks contains
+        Map<WorldChunk, byte[]> sections = new IdentityHashMap<>();
+        
+        BlockPos.Mutable check = new BlockPos.Mutable();
+        int upper = Math.min( 256, deathPoint.getY() + config.MAX_DEATH_ELEVATION );
+        for ( int y = Math.max( 0, deathPoint.getY() ); y < upper; y++ ) {
+            for (int i = 0; i < columns; i++) {
+                WorldChunk chunk = chunks[i];
+                if (chunk == null)
+                    continue;
+                
+                int x = deathPoint.getX() + offsets[i * 2];
+                int z = deathPoint.getZ() + offsets[i * 2 + 1];
+                
+                // Skip sections without any air or water
+                byte section = DeathChestUtils.getSection( sections, chunk, y >> 4 );
+                if (section == SECTION_SOLID)
+                    continue;
+                
+                // Empty sections and everything above the surface is AIR
+                if ((section == SECTION_EMPTY) || (y >= chunk.getHeightmap( Heightmap.Type.WORLD_SURFACE ).get( x & 15, z & 15 )))
+                    return new BlockPos( x, y - 1, z );
+                
+                check.set( x, y, z );
+                BlockPos out;
+                if ((out = DeathChestUtils.isValid( world, chunk.getBlockState( check ).getBlock(), check )) != null)
                     return out.down();
-                if ((x == z) || ((x < 0) && (x == -z)) || ((x > 0) && (x == 1 - z))) {
-                    tmp = dX;
-                    dX = -dZ;
-                    dZ = tmp;
-                }
-                x += dX;
-                z += dZ;
             }
         }
         
-        return out;
+        // The surface of a world with a ceiling is the roof, leave the chest where the player died
+        if (world.dimension.isNether())
+            return deathPoint.down();
+        
+        // Fall back to the surface above the death point (However far above the elevation limit it is)
+        WorldChunk chunk = world.getWorldChunk( deathPoint );
+        int surface = chunk.getHeightmap( Heightmap.Type.WORLD_SURFACE ).get( deathPoint.getX() & 15, deathPoint.getZ() & 15 );
+        if ((surface <= deathPoint.getY()) || (surface >= 256))
+            return deathPoint.down();
+        return new BlockPos( deathPoint.getX(), surface - 1, deathPoint.getZ() );
     }
     @Nullable
-    private static BlockPos isValid(final World world, final BlockPos blockPos) {
-        Block block = world.getBlockState(blockPos).getBlock();
+    private static BlockPos isValid(final World world, final Block block, final BlockPos blockPos) {
         // If AIR, A-O-KAY
         if (block.equals(Blocks.AIR) || block.equals(Blocks.CAVE_AIR))
-            return blockPos;
+            return blockPos.toImmutable();
         // If WATER, Sink
         if (block.equals(Blocks.WATER)) {
-            BlockPos seaFloor = blockPos;
+            BlockPos seaFloor = blockPos.toImmutable();
             do {
                 seaFloor = seaFloor.down();
             } while ((world.getBlockState(seaFloor).getBlock().equals(Blocks.WATER)) || (world.getFluidState(seaFloor).getFluid() == Fluids.WATER));
@@ -104,6 +143,49 @@ public final class DeathChestUtils {
         }
         return null;
     }
+    private static byte getSection(final Map<WorldChunk, byte[]> sections, final WorldChunk chunk, final int section) {
+        byte[] known = sections.computeIfAbsent( chunk, (key) -> new byte[16] );
+        if (known[section] == SECTION_UNKNOWN) {
+            ChunkSection chunkSection = chunk.getSectionArray()[section];
+            if (ChunkSection.isEmpty( chunkSection ))
+                known[section] = SECTION_EMPTY;
+            else if (chunkSection.hasAny(( state ) -> DeathChestUtils.isCandidate( state.getBlock() )))
+                known[section] = SECTION_MIXED;
+            else known[section] = SECTION_SOLID;
+        }
+        return known[section];
+    }
+    private static boolean isCandidate(final Block block) {
+        return block.equals(Blocks.AIR) || block.equals(Blocks.CAVE_AIR) || block.equals(Blocks.WATER);
+    }
+    private static int[] getSpiral(final int radius) {
+        if (radius == DeathChestUtils.spiralRadius)
+            return DeathChestUtils.spiral;
+        
+        int maxI = 1 + ((radius * radius) * 4) + (radius * 4);
+        int[] offsets = new int[maxI * 2];
+        
+        int x = 0;
+        int z = 0;
+        int dX = 0;
+        int dZ = -1;
+        int tmp;
+        
+        for (int i = 0; i < maxI; i++) {
+            offsets[i * 2] = x;
+            offsets[i * 2 + 1] = z;
+            if ((x == z) || ((x < 0) && (x == -z)) || ((x > 0) && (x == 1 - z))) {
+                tmp = dX;
+                dX = -dZ;
+                dZ = tmp;
+            }
+            x += dX;
+            z += dZ;
+        }
+        
+        DeathChestUtils.spiralRadius = radius;
+        return (DeathChestUtils.spiral = offsets);
+    }
     public static boolean createDeathChestFor(final PlayerEntity player, BlockPos deathPos, final PlayerInventory inventory) {
         World world = player.world;
         
@@ -191,7 +273,7 @@ public final class DeathChestUtils {
         ((PlayerCorpse) stand).setCorpseData( player.getUuid(), itemsTag );
         
         // Print the death chest coordinates
-        if (SewingMachineConfig.INSTANCE.PRINT_DEATH_CHEST_LOC.get()) {
+        if (SewingMachineConfig.INSTANCE.snapshot().PRINT_DEATH_CHEST_LOC) {
             player.sendMessage(TranslatableServerSide.text(player, "player.death_chest.location", new LiteralText(chestPos.getX() + ", " + (chestPos.getY() + 1 ) + ", " + chestPos.getZ()).formatted(Formatting.AQUA)));
         }
         CoreMod.logInfo( "Death chest for " + playerName + " spawned at " + MessageUtils.blockPosToString( chestPos.offset(Direction.UP, 1) ));
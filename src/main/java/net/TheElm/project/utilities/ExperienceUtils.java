@@ -0,0 +1,105 @@
+/*
+ * This software is licensed under the MIT License
+ * https://github.com/GStefanowich/MC-Server-Protection
+ *
+ * Copyright (c) 2019 Gregory Stefanowich
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package net.TheElm.project.utilities;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.TheElm.project.interfaces.ExperienceClump;
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.EntityType;
+import net.minecraft.entity.ExperienceOrbEntity;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.MathHelper;
+import org.jetbrains.annotations.NotNull;
+
+public final class ExperienceUtils {
+    
+    private static int countingSecond = -1;
+    private static int countingMerges = 0;
+    private static int lastMerges = 0;
+    
+    private ExperienceUtils() {}
+    
+    /**
+     * Fold every experience orb into the youngest orb sharing its block,
+     * so merged experience despawns no sooner than any of its parts would have
+     * @param world The world to merge the orbs of
+     */
+    public static void mergeOrbs(@NotNull ServerWorld world) {
+        Long2ObjectMap<ExperienceOrbEntity> cells = new Long2ObjectOpenHashMap<>();
+        int merges = 0;
+        
+        for (Entity entity : world.getEntities(EntityType.EXPERIENCE_ORB, Entity::isAlive)) {
+            ExperienceOrbEntity orb = (ExperienceOrbEntity) entity;
+            long cell = BlockPos.asLong(
+                MathHelper.floor(orb.getX()),
+                MathHelper.floor(orb.getY()),
+                MathHelper.floor(orb.getZ())
+            );
+            
+            ExperienceOrbEntity youngest = cells.get(cell);
+            if (youngest == null) {
+                cells.put(cell, orb);
+                continue;
+            }
+            
+            // Let the youngest live
+            if (orb.orbAge < youngest.orbAge) {
+                cells.put(cell, orb);
+                ExperienceOrbEntity older = youngest;
+                youngest = orb;
+                orb = older;
+            }
+            
+            ((ExperienceClump) youngest).addExperienceAmount(orb.getExperienceAmount());
+            orb.remove();
+            ++merges;
+        }
+        
+        ExperienceUtils.countMerges(world.getServer().getTicks(), merges);
+    }
+    
+    private static void countMerges(int serverTick, int merges) {
+        // Roll over to the next second
+        int second = serverTick / 20;
+        if (second != ExperienceUtils.countingSecond) {
+            ExperienceUtils.lastMerges = ExperienceUtils.countingMerges;
+            ExperienceUtils.countingMerges = 0;
+            ExperienceUtils.countingSecond = second;
+        }
+        
+        ExperienceUtils.countingMerges += merges;
+    }
+    
+    /**
+     * @return The number of experience orbs that were merged into other orbs during the last second
+     */
+    public static int getMergeRate() {
+        return ExperienceUtils.lastMerges;
+    }
+    
+}
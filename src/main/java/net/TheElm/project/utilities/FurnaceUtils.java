@@ -0,0 +1,77 @@
+/*
+ * This software is licensed under the MIT License
+ * https://github.com/GStefanowich/MC-Server-Protection
+ *
+ * Copyright (c) 2019 Gregory Stefanowich
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package net.TheElm.project.utilities;
+
+public final class FurnaceUtils {
+    
+    private static int countingTick = -1;
+    private static int countingActive = 0;
+    private static int lastActive = 0;
+    
+    private static int dormant = 0;
+    
+    private FurnaceUtils() {}
+    
+    /**
+     * Count a furnace that ran its full tick
+     * @param serverTick The current server tick
+     */
+    public static void countActive(int serverTick) {
+        // Roll over to the next tick
+        if (serverTick != FurnaceUtils.countingTick) {
+            FurnaceUtils.lastActive = FurnaceUtils.countingActive;
+            FurnaceUtils.countingActive = 0;
+            FurnaceUtils.countingTick = serverTick;
+        }
+        
+        ++FurnaceUtils.countingActive;
+    }
+    
+    /*
+     * Dormancy changes (Furnaces that are removed or unloaded wake up first)
+     */
+    public static void sleep() {
+        ++FurnaceUtils.dormant;
+    }
+    public static void wake() {
+        --FurnaceUtils.dormant;
+    }
+    
+    /**
+     * @return The number of furnaces that ran their full tick during the last server tick
+     */
+    public static int getActiveCount() {
+        return FurnaceUtils.lastActive;
+    }
+    
+    /**
+     * @return The number of loaded furnaces that are skipping their ticks
+     */
+    public static int getDormantCount() {
+        return FurnaceUtils.dormant;
+    }
+    
+}
@@ -28,129 +28,167 @@ package net.TheElm.project.utilities;
 import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
 import com.google.gson.JsonParser;
-import com.google.gson.JsonSyntaxException;
 import net.TheElm.project.CoreMod;
+import net.minecraft.item.ItemStack;
+import net.minecraft.item.Items;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.nbt.ListTag;
 import net.minecraft.nbt.StringTag;
-import net.minecraft.nbt.Tag;
+import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.io.File;
-import java.io.FileNotFoundException;
 import java.io.FileReader;
-import java.util.ArrayList;
-import java.util.Collection;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
 
 public final class GuideUtils {
     
-    private final JsonObject guideInformation;
+    private static final String FILE_NAME = "books.json";
     
-    private GuideUtils(JsonObject json) {
-        this.guideInformation = json;
-    }
+    /*
+     * The catalog is swapped out as a whole whenever the file is re-read,
+     * so readers on the server thread never see a half-built catalog
+     */
+    private static volatile Map<String, GuideUtils> CATALOG = Collections.emptyMap();
+    private static Thread WATCHER = null;
     
-    public String getTitle() {
-        return guideInformation.get("title").getAsString();
-    }
+    private final String title;
+    private final CompoundTag bookTag;
     
-    private Collection<StringTag> getAllPageContents() {
-        ArrayList<StringTag> list = new ArrayList<>();
-        JsonArray pages = this.guideInformation.getAsJsonArray("pages");
-        
-        // For each page
-        for (JsonElement page : pages) {
-            list.add(StringTag.of( page.toString() ));
-        }
-        
-        return list;
-    }
-    public Tag getPages() {
-        ListTag pages = new ListTag();
-        pages.addAll( this.getAllPageContents() );
-        return pages;
+    private GuideUtils(@NotNull JsonObject json) {
+        this.title = json.get("title").getAsString();
+        this.bookTag = GuideUtils.buildBookTag(json, this.title);
     }
     
-    private String getBookDescription() {
-        return guideInformation.get("description").getAsString();
-    }
-    
-    @Nullable
-    private String getBookDescriptionColor() {
-        if (this.guideInformation.has("lore_color"))
-            return this.guideInformation.get("lore_color").getAsString();
-        return null;
-    }
-    private String getBookDescriptionColorOrDefault(String def) {
-        String bookDescColor;
-        if (( bookDescColor = this.getBookDescriptionColor() ) == null)
-            return def;
-        return bookDescColor;
+    public String getTitle() {
+        return this.title;
     }
     
-    @Nullable
-    private String getAuthor() {
-        if (this.guideInformation.has("author"))
-            return this.guideInformation.get("author").getAsString();
-        return null;
+    public void writeCustomDataToTag(CompoundTag nbt) {
+        for (String key : this.bookTag.getKeys())
+            nbt.put(key, this.bookTag.get(key).copy());
     }
-    private String getAuthorOrDefault(String def) {
-        String bookAuthor;
-        if ((bookAuthor = this.getAuthor()) == null)
-            return def;
-        return bookAuthor;
+    public ItemStack newStack() {
+        ItemStack book = new ItemStack( Items.WRITTEN_BOOK );
+        book.setTag(this.bookTag.copy());
+        return book;
     }
     
-    public Tag getBookLore() {
-        // Json
-        JsonObject json = new JsonObject();
-        json.addProperty("text", this.getBookDescription());
-        json.addProperty("color", this.getBookDescriptionColorOrDefault("dark_purple"));
-        
-        // Lore
-        ListTag lore = new ListTag();
-        lore.add(StringTag.of( json.toString() ));
+    /*
+     * Build the NBT a single time when the catalog is loaded
+     */
+    private static CompoundTag buildBookTag(@NotNull JsonObject json, @NotNull String title) {
+        CompoundTag nbt = new CompoundTag();
         
-        // Return
-        return lore;
-    }
-    
-    public void writeCustomDataToTag(CompoundTag nbt) {
         // Put Basic Information
-        nbt.putString("author", this.getAuthorOrDefault("Server"));
-        nbt.putString("title", this.getTitle());
+        nbt.putString("author", json.has("author") ? json.get("author").getAsString() : "Server");
+        nbt.putString("title", title);
         nbt.putByte("resolved", (byte)1);
         nbt.putInt("generation", 1);
-        nbt.put("pages", this.getPages());
+        
+        // Put each page
+        ListTag pages = new ListTag();
+        JsonArray pageArray = json.getAsJsonArray("pages");
+        for (JsonElement page : pageArray)
+            pages.add(StringTag.of( page.toString() ));
+        nbt.put("pages", pages);
         
         // Put Lore
+        JsonObject loreJson = new JsonObject();
+        loreJson.addProperty("text", json.get("description").getAsString());
+        loreJson.addProperty("color", json.has("lore_color") ? json.get("lore_color").getAsString() : "dark_purple");
+        
+        ListTag lore = new ListTag();
+        lore.add(StringTag.of( loreJson.toString() ));
+        
         CompoundTag display = new CompoundTag();
-        display.put("Lore", this.getBookLore());
+        display.put("Lore", lore);
         nbt.put("display", display);
+        
+        return nbt;
     }
     
+    /*
+     * Catalog access
+     */
     @Nullable
-    public static GuideUtils getBook(String name) throws JsonSyntaxException {
-        JsonObject fileContents = GuideUtils.readBooksFile();
-        if (!fileContents.has( name.toLowerCase() ))
-            return null;
-        return new GuideUtils( fileContents.getAsJsonObject( name.toLowerCase() ) );
+    public static GuideUtils getBook(String name) {
+        return CATALOG.get( name.toLowerCase() );
     }
-    private static JsonObject readBooksFile() throws JsonSyntaxException {
+    public static synchronized void reload() {
         // Get file locations
         File confDir = CoreMod.getConfDir();
-        File bookDat = new File( confDir, "books.json" );
+        File bookDat = new File( confDir, FILE_NAME );
+        
+        Map<String, GuideUtils> catalog = new HashMap<>();
         
-        // If the directory doesn't exist, return empty
+        // If the file doesn't exist, the catalog is empty
         if (bookDat.exists()) {
-            try {
-                return new JsonParser().parse(new FileReader(bookDat)).getAsJsonObject();
-            } catch (FileNotFoundException e) {
-                CoreMod.logError( e );
+            try (Reader reader = new FileReader(bookDat)) {
+                JsonObject fileContents = new JsonParser().parse(reader).getAsJsonObject();
+                for (Map.Entry<String, JsonElement> book : fileContents.entrySet())
+                    catalog.put(book.getKey().toLowerCase(), new GuideUtils(book.getValue().getAsJsonObject()));
+            } catch (IOException | JsonParseException | IllegalStateException | NullPointerException e) {
+                // Keep serving the previous catalog if the new file is bad
+                CoreMod.logError("Could not read " + FILE_NAME + ", keeping the previously loaded guides", e);
+                return;
+            }
+        }
+        
+        CATALOG = Collections.unmodifiableMap(catalog);
+        CoreMod.logDebug("Loaded " + catalog.size() + " guide books");
+    }
+    
+    /*
+     * Watch the config directory to reload when the file changes
+     */
+    public static synchronized void watch() {
+        if ((WATCHER != null) && WATCHER.isAlive())
+            return;
+        WATCHER = new Thread(GuideUtils::watchConfDir);
+        WATCHER.setName("Guide book watcher");
+        WATCHER.setDaemon(true);
+        WATCHER.start();
+    }
+    private static void watchConfDir() {
+        Path confDir = CoreMod.getConfDir().toPath();
+        try (WatchService service = FileSystems.getDefault().newWatchService()) {
+            confDir.register(service, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY, StandardWatchEventKinds.ENTRY_DELETE);
+            
+            while (true) {
+                WatchKey key = service.take();
+                
+                boolean changed = false;
+                for (WatchEvent<?> event : key.pollEvents()) {
+                    Object context = event.context();
+                    if ((context instanceof Path) && FILE_NAME.equals(context.toString()))
+                        changed = true;
+                }
+                
+                if (changed)
+                    GuideUtils.reload();
+                
+                // Stop if the directory is no longer accessible
+                if (!key.reset())
+                    break;
             }
+        } catch (InterruptedException e) {
+            CoreMod.logDebug("Stopped watching guide books");
+        } catch (IOException e) {
+            CoreMod.logError("Could not watch " + FILE_NAME + " for changes", e);
         }
-        return new JsonObject();
     }
     
 }
@@ -25,6 +25,7 @@
 
 package net.TheElm.project.utilities;
 
+import net.TheElm.project.objects.TransferPlan;
 import net.minecraft.block.Block;
 import net.minecraft.block.BlockState;
 import net.minecraft.block.ChestBlock;
@@ -38,7 +39,6 @@ import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
 import net.minecraft.item.Items;
 import net.minecraft.server.network.ServerPlayerEntity;
-import net.minecraft.server.world.ServerWorld;
 import net.minecraft.sound.SoundCategory;
 import net.minecraft.sound.SoundEvents;
 import net.minecraft.util.Formatting;
@@ -47,8 +47,6 @@ import net.minecraft.world.World;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.Arrays;
-import java.util.Collections;
 import java.util.Map;
 
 public final class InventoryUtils {
@@ -76,93 +74,7 @@ public final class InventoryUtils {
         return InventoryUtils.playerToChest( player, sourcePos, playerInventory, chestInventory, item, count, false );
     }
     public static boolean playerToChest(@NotNull ServerPlayerEntity player, @NotNull final BlockPos sourcePos, @NotNull final PlayerInventory playerInventory, @Nullable final Inventory chestInventory, @NotNull final Item item, final int count, final boolean required) {
-        // World
-        ServerWorld world = player.getServerWorld();
-        
-        // Check if enough in player inventory
-        if ( required && ( playerInventory.countInInv( item ) < count ) )
-            return false;
-        
-        // Get stack size to take from player up to 64
-        int itemStackSize = 0;
-        
-        boolean success;
-        
-        // If chest has item on the frame
-        if ( playerInventory.countInInv( item ) > 0) {
-            final int invSize = playerInventory.getInvSize(); // Get the inventory size to iterate over
-            
-            // Get stack sizes
-            for ( int i = 0; i < invSize; i++ ) {
-                final ItemStack invItem = playerInventory.getInvStack( i );
-                if ( invItem.getItem().equals( item ) ) {
-                    int putable = count - itemStackSize; // The amount of items remaining to take a stack from the player
-                    // If stack size is full
-                    if ( putable <= 0 )
-                        break;
-                    
-                    if ( chestInventory == null ) {
-                        final int put = Collections.min(Arrays.asList( invItem.getCount(), putable ));
-                        
-                        // Increase the amount that we've put into the chest
-                        itemStackSize += put;
-                        
-                        // Set the player inventory item stack size
-                        invItem.setCount(invItem.getCount() - put);
-                        
-                    } else {
-                        // Set the amount to give to the chest
-                        int chestSize = chestInventory.getInvSize();
-                        for (int y = 0; y < chestSize; y++) {
-                            // If the players stack is empty, break
-                            if (invItem.getCount() <= 0)
-                                break;
-                            
-                            // Get the item from chest Pos Y
-                            final ItemStack chestItemStack = chestInventory.getInvStack(y);
-                            final Item chestItem = chestItemStack.getItem();
-                            
-                            // If the slot is AIR or matching type
-                            if (chestItem.equals(Items.AIR) || ((chestItemStack.getCount() < chestItem.getMaxCount()) && chestItem.equals(item))) {
-                                final int put = Collections.min(Arrays.asList(chestItem.getMaxCount() - chestItemStack.getCount(), invItem.getCount(), putable));
-                                if (chestItem.equals(Items.AIR)) {
-                                    // Put a copy of the item from the players inventory
-                                    final ItemStack clone = invItem.copy();
-                                    clone.setCount(put);
-                                    
-                                    chestInventory.setInvStack(y, clone);
-                                } else {
-                                    chestItemStack.setCount(chestItemStack.getCount() + put);
-                                    
-                                }
-                                
-                                // Set the player inventory item stack size
-                                invItem.setCount(invItem.getCount() - put);
-                                
-                                // Increase the amount that we've put into the chest
-                                itemStackSize += put;
-                                
-                                // Change the remainder that we want to take
-                                putable -= put;
-                                
-                                // If none left to take, break the loop
-                                if (putable <= 0) {
-                                    success = ( put > 0 );
-                                    if (success)
-                                        world.playSound( null, sourcePos, SoundEvents.ENTITY_ITEM_PICKUP, SoundCategory.MASTER,1.0f, 1.0f );
-                                    return success;
-                                }
-                            }
-                        }
-                    }
-                }
-            }
-        }
-        
-        success = ( itemStackSize > 0 );
-        if (success)
-            world.playSound( null, sourcePos, SoundEvents.ENTITY_ITEM_PICKUP, SoundCategory.MASTER,1.0f, 1.0f );
-        return success;
+        return InventoryUtils.transfer( player, sourcePos, TransferPlan.plan( playerInventory, chestInventory, item, count ), required );
     }
     
     /*
@@ -172,77 +84,23 @@ public final class InventoryUtils {
         return InventoryUtils.chestToPlayer( player, sourcePos, chestInventory, playerInventory, item, count, false);
     }
     public static boolean chestToPlayer(@NotNull ServerPlayerEntity player, @NotNull final BlockPos sourcePos, @Nullable final Inventory chestInventory, @NotNull final PlayerInventory playerInventory, @NotNull final Item item, final int count, final boolean required) {
-        // World
-        ServerWorld world = player.getServerWorld();
-        
-        // Check if enough in the chest
-        if (required && (chestInventory != null) && (chestInventory.countInInv( item ) < count))
+        return InventoryUtils.transfer( player, sourcePos, TransferPlan.plan( chestInventory, playerInventory, item, count ), required );
+    }
+    
+    /*
+     * Commit a planned transfer
+     */
+    private static boolean transfer(@NotNull ServerPlayerEntity player, @NotNull final BlockPos sourcePos, @NotNull final TransferPlan plan, final boolean required) {
+        // Don't move anything unless all of it can be moved
+        if ((plan.getCount() <= 0) || (required && (!plan.isComplete())))
             return false;
         
-        // Get stack size to give to player up to 64
-        int stackSize = 0;
-        
-        if ( chestInventory == null) {
-            final int maxStack = item.getMaxCount();
-            while ( stackSize < count ) {
-                int giveCount = Collections.min(Arrays.asList( count - stackSize, maxStack ));
-                
-                // Create the new itemstack
-                ItemStack clone = new ItemStack( item );
-                clone.setCount( giveCount );
-                
-                // Insert items into player inventory
-                playerInventory.offerOrDrop( player.getEntityWorld(), clone );
-                
-                // Send amount given
-                stackSize += giveCount;
-            }
-            
-        } else {
-            // If chest has item on the frame
-            if (chestInventory.countInInv(item) > 0) {
-                final int invSize = chestInventory.getInvSize(); // Get the inventory size to iterate over
-                
-                // Get stack sizes
-                for (int i = 0; i < invSize; i++) {
-                    final ItemStack chestItem = chestInventory.getInvStack(i);
-                    if (chestItem.getItem().equals(item)) {
-                        int collectible = count - stackSize; // The amount of items remaining to give the player a full stack
-                        // If stack size is full
-                        if (collectible <= 0)
-                            break;
-                        int collect = Collections.min(Arrays.asList( collectible, chestItem.getCount()));
-                        
-                        // Create a copy of the item
-                        final ItemStack clone = chestItem.copy();
-                        
-                        int slot;
-                        // Get a slot for the item
-                        slot = playerInventory.getOccupiedSlotWithRoomForStack( clone );
-                        if ( slot == -1 ) {
-                            clone.setCount(collect);
-                            if (!playerInventory.insertStack( clone ))
-                                break;
-                        } else {
-                            final ItemStack inInv = playerInventory.getInvStack( slot );
-                            int invStackSize = inInv.getCount();
-                            collect = Collections.min(Arrays.asList( collect, inInv.getItem().getMaxCount() - invStackSize ));
-                            inInv.setCount( invStackSize + collect );
-                        }
-                        
-                        stackSize += collect;
-                        
-                        // Set the chest item stack size
-                        chestItem.setCount(chestItem.getCount() - collect);
-                    }
-                }
-            }
-        }
-        
-        boolean success = ( required ? stackSize >= count : stackSize > 0 );
-        if ( success )
-            world.playSound( null, sourcePos, SoundEvents.ENTITY_ITEM_PICKUP, SoundCategory.MASTER,1.0f, 1.0f );
-        return success;
+        plan.commit();
+        InventoryUtils.playTransferSound( player.getServerWorld(), sourcePos );
+        return true;
+    }
+    public static void playTransferSound(@NotNull final World world, @NotNull final BlockPos sourcePos) {
+        world.playSound( null, sourcePos, SoundEvents.ENTITY_ITEM_PICKUP, SoundCategory.MASTER,1.0f, 1.0f );
     }
     
     public static ItemRarity getItemRarity(ItemStack stack) {
@@ -38,7 +38,11 @@ import net.TheElm.project.interfaces.IClaimedChunk;
 import net.TheElm.project.interfaces.MoneyHolder;
 import net.TheElm.project.protections.claiming.ClaimantPlayer;
 import net.TheElm.project.protections.claiming.ClaimantTown;
+import net.fabricmc.fabric.api.util.NbtType;
+import net.minecraft.nbt.AbstractNumberTag;
 import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.NbtIo;
+import net.minecraft.nbt.Tag;
 import net.minecraft.server.MinecraftServer;
 import net.minecraft.server.world.ServerWorld;
 import net.minecraft.text.LiteralText;
@@ -49,239 +53,320 @@ import net.minecraft.world.dimension.DimensionType;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Date;
-import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
 
 public final class LegacyConverter implements AutoCloseable {
     
     private static LegacyConverter INSTANCE = null;
     private static boolean RUNNING = false;
     
+    // How many rows to read from a table at a time
+    private static final int PAGE_SIZE = 500;
+    
     private final long startedAt;
     private boolean success = false;
     private boolean clearTowns = false;
     private boolean clearPlayers = false;
     private boolean clearClaims = false;
     
-    private final Map<UUID, ClaimantTown> modTownData = new HashMap<>();
-    private final Map<UUID, ClaimantPlayer> modPlayerData = new HashMap<>();
+    // Claimants touched by the current page, saved when the page completes
+    private final Map<UUID, ClaimantTown> modTownData = new ConcurrentHashMap<>();
+    private final Map<UUID, ClaimantPlayer> modPlayerData = new ConcurrentHashMap<>();
+    
+    // The last key converted from each table
+    private final CompoundTag checkpoint;
+    private final ExecutorService workers;
     
     private LegacyConverter() {
         LegacyConverter.RUNNING = true;
         this.startedAt = new Date().getTime();
+        this.checkpoint = LegacyConverter.readCheckpoint();
+        this.workers = Executors.newFixedThreadPool(Math.max( 1, Runtime.getRuntime().availableProcessors() - 1 ), (runnable) -> {
+            Thread thread = new Thread( runnable );
+            thread.setName("Sewing Converter Worker");
+            thread.setDaemon( true );
+            return thread;
+        });
         try {
             // Disconnect players during conversion
             EntityUtils.kickAllPlayers(new LiteralText("Server is now performing an update."));
             
+            if (!this.checkpoint.isEmpty())
+                CoreMod.logInfo("Resuming legacy conversion from the last checkpoint.");
+            
             this.clearTowns = this.convertTowns(ServerCore.get());
             this.clearPlayers = this.convertPlayers(ServerCore.get());
             this.clearClaims = this.convertClaims(ServerCore.get());
-            this.success = true;
+            this.success = this.clearTowns && this.clearPlayers && this.clearClaims;
         } catch (NullPointerException e) {
             CoreMod.logError("Failed to complete conversion from legacy version.", e);
         } finally {
+            this.workers.shutdown();
             LegacyConverter.RUNNING = false;
         }
     }
     
     public boolean convertTowns(MinecraftServer server) {
-        try {
-            /*
-             * Import towns from the database
-             */
-            try (MySQLStatement stmt = CoreMod.getSQL().prepare("SELECT `townId`, `townOwner`, `townName` FROM `chunk_Towns`;")) {
-                try (ResultSet rs = stmt.executeStatement()) {
-                    while (rs.next()) {
-                        Text townName = new LiteralText(rs.getString("townName"));
-                        UUID townUUID = UUID.fromString(rs.getString("townId"));
-                        UUID ownerUUID = UUID.fromString(rs.getString("townOwner"));
-                        
-                        // Make a NEW town
-                        ClaimantTown town = ClaimantTown.makeTown( townUUID, ownerUUID, townName );
-                        
-                        // Store the town for later user
-                        this.modTownData.put(townUUID, town);
-                    }
-                }
-            }
-            /*
-             * Get the towns members
-             */
-            try (MySQLStatement stmt = CoreMod.getSQL().prepare("SELECT `townId`, `townPlayer` FROM `player_Towns`;")) {
-                try (ResultSet rs = stmt.executeStatement()) {
-                    while (rs.next()) {
-                        ClaimantTown town = this.getTownDat(UUID.fromString(rs.getString("townId")));
-                        if (town == null) continue;
-                        
-                        UUID playerUUID = UUID.fromString(rs.getString("townPlayer"));
-                        if (playerUUID.equals(town.getOwner())) continue;
-                        
-                        town.updateFriend( playerUUID, ClaimRanks.ALLY );
-                        town.markDirty();
-                    }
-                }
-            }
-        } catch (SQLException e) {
-            if (this.shouldFail( e )) return false;
-        }
-        return true;
+        /*
+         * Import towns from the database
+         */
+        return this.convertTable("towns", "SELECT `townId`, `townOwner`, `townName` FROM `chunk_Towns`", new String[]{ "townId" }, true, (rs) -> {
+            Text townName = new LiteralText(rs.getString("townName"));
+            UUID townUUID = UUID.fromString(rs.getString("townId"));
+            UUID ownerUUID = UUID.fromString(rs.getString("townOwner"));
+            
+            return () -> {
+                // Make a NEW town
+                ClaimantTown town = ClaimantTown.makeTown( townUUID, ownerUUID, townName );
+                
+                // Store the town to be saved with the page
+                this.modTownData.put(townUUID, town);
+            };
+        })
+        /*
+         * Get the towns members
+         */
+        && this.convertTable("members", "SELECT `townId`, `townPlayer` FROM `player_Towns`", new String[]{ "townId", "townPlayer" }, true, (rs) -> {
+            UUID townUUID = UUID.fromString(rs.getString("townId"));
+            UUID playerUUID = UUID.fromString(rs.getString("townPlayer"));
+            
+            return () -> {
+                ClaimantTown town = this.getTownDat(townUUID);
+                if ((town == null) || playerUUID.equals(town.getOwner()))
+                    return;
+                
+                // Load the player with the page, so their town is saved before the checkpoint
+                this.getPlayerDat(playerUUID);
+                town.updateFriend( playerUUID, ClaimRanks.ALLY );
+                town.markDirty();
+            };
+        });
     }
     public boolean convertPlayers(MinecraftServer server) {
         /*
          * Get the players MONEY and TOWN
          */
-        try (MySQLStatement stmt = CoreMod.getSQL().prepare("SELECT `d`.`dataOwner`, `d`.`dataMoney`, `t`.`townId` FROM `player_Data` AS `d` LEFT JOIN `player_Towns` AS `t` ON `d`.`dataOwner` = `t`.`townPlayer`")) {
-            try (ResultSet rs = stmt.executeStatement()) {
-                while (rs.next()) {
-                    UUID playerUUID = UUID.fromString(rs.getString("dataOwner"));
-                    ClaimantTown town = (rs.getString("townId") == null ? null : this.getTownDat(UUID.fromString(rs.getString("townId"))));
-                    int money = rs.getInt("dataMoney");
-                    
-                    // Get the players NBT data
-                    CompoundTag playerDat;
-                    try {
-                        playerDat = NbtUtils.readOfflinePlayerData( playerUUID );
-                        
-                        // Store the NBT data to the tag
-                        playerDat.putInt(MoneyHolder.SAVE_KEY, money);
-                        
-                        // Save
-                        NbtUtils.writeOfflinePlayerData( playerUUID, playerDat );
-                    } catch (NbtNotFoundException ignored) {}
+        return this.convertTable("players", "SELECT `dataOwner`, `dataMoney`, (SELECT `townId` FROM `player_Towns` WHERE `townPlayer` = `player_Data`.`dataOwner` ORDER BY `townId` ASC LIMIT 1) AS `townId` FROM `player_Data`", new String[]{ "dataOwner" }, true, (rs) -> {
+            UUID playerUUID = UUID.fromString(rs.getString("dataOwner"));
+            UUID townUUID = (rs.getString("townId") == null ? null : UUID.fromString(rs.getString("townId")));
+            int money = rs.getInt("dataMoney");
+            
+            return () -> {
+                // Get the players NBT data
+                CompoundTag playerDat;
+                try {
+                    playerDat = NbtUtils.readOfflinePlayerData( playerUUID );
                     
-                    // Get the claimant NBT
-                    ClaimantPlayer modDat = this.getPlayerDat(playerUUID);
+                    // Store the NBT data to the tag
+                    playerDat.putInt(MoneyHolder.SAVE_KEY, money);
                     
-                    // Update the players town
-                    if (town != null) modDat.setTown( town );
-                }
-            }
-        } catch (SQLException e) {
-            if (this.shouldFail( e )) return false;
-        }
+                    // Save
+                    NbtUtils.writeOfflinePlayerData( playerUUID, playerDat );
+                } catch (NbtNotFoundException ignored) {}
+                
+                // Get the claimant NBT
+                ClaimantPlayer modDat = this.getPlayerDat(playerUUID);
+                
+                // Update the players town
+                ClaimantTown town = (townUUID == null ? null : this.getTownDat(townUUID));
+                if (town != null) modDat.setTown( town );
+            };
+        })
         /*
          * Get the players FRIENDS
          */
-        try (MySQLStatement stmt = CoreMod.getSQL().prepare("SELECT `chunkOwner`, `chunkFriend`, `chunkRank` FROM `chunk_Friends`;")) {
-            try (ResultSet rs = stmt.executeStatement()) {
-                while (rs.next()) {
-                    UUID playerUUID = UUID.fromString(rs.getString("chunkOwner"));
-                    UUID friendUUID = UUID.fromString(rs.getString("chunkFriend"));
-                    ClaimRanks rank = ClaimRanks.valueOf(rs.getString("chunkRank"));
-                    
-                    ClaimantPlayer player = this.getPlayerDat(playerUUID);
-                    player.updateFriend( friendUUID, rank );
-                }
-            }
-        } catch (SQLException e) {
-            if (this.shouldFail( e )) return false;
-        }
+        && this.convertTable("friends", "SELECT `chunkOwner`, `chunkFriend`, `chunkRank` FROM `chunk_Friends`", new String[]{ "chunkOwner", "chunkFriend" }, true, (rs) -> {
+            UUID playerUUID = UUID.fromString(rs.getString("chunkOwner"));
+            UUID friendUUID = UUID.fromString(rs.getString("chunkFriend"));
+            ClaimRanks rank = ClaimRanks.valueOf(rs.getString("chunkRank"));
+            
+            return () -> this.getPlayerDat(playerUUID)
+                .updateFriend( friendUUID, rank );
+        })
         /*
          * Get the players PERMISSIONS
          */
-        try (MySQLStatement stmt = CoreMod.getSQL().prepare("SELECT `settingOwner`, `settingOption`, `settingRank` FROM `chunk_Settings`;")) {
-            try (ResultSet rs = stmt.executeStatement()) {
-                while (rs.next()) {
-                    UUID playerUUID = UUID.fromString(rs.getString("settingOwner"));
-                    ClaimPermissions permission = ClaimPermissions.valueOf(rs.getString("settingOption"));
-                    ClaimRanks rank = ClaimRanks.valueOf(rs.getString("settingRank"));
-                    
-                    ClaimantPlayer player = this.getPlayerDat(playerUUID);
-                    player.updatePermission( permission, rank );
-                }
-            }
-        } catch (SQLException e) {
-            if (this.shouldFail( e )) return false;
-        }
+        && this.convertTable("permissions", "SELECT `settingOwner`, `settingOption`, `settingRank` FROM `chunk_Settings`", new String[]{ "settingOwner", "settingOption" }, true, (rs) -> {
+            UUID playerUUID = UUID.fromString(rs.getString("settingOwner"));
+            ClaimPermissions permission = ClaimPermissions.valueOf(rs.getString("settingOption"));
+            ClaimRanks rank = ClaimRanks.valueOf(rs.getString("settingRank"));
+            
+            return () -> this.getPlayerDat(playerUUID)
+                .updatePermission( permission, rank );
+        })
         /*
          * Get the players OPTIONS
          */
-        try (MySQLStatement stmt = CoreMod.getSQL().prepare("SELECT `optionOwner`, `optionName`, `optionValue` FROM `chunk_Options`;")) {
-            try (ResultSet rs = stmt.executeStatement()) {
-                while (rs.next()) {
-                    UUID playerUUID = UUID.fromString(rs.getString("optionOwner"));
-                    ClaimSettings setting = ClaimSettings.valueOf(rs.getString("optionName"));
-                    boolean enabled = Boolean.valueOf(rs.getString("optionValue"));
-                    
-                    ClaimantPlayer player = this.getPlayerDat(playerUUID);
-                    player.updateSetting(setting, enabled);
-                }
-            }
-        } catch (SQLException e) {
-            if (this.shouldFail( e )) return false;
-        }
-        return true;
+        && this.convertTable("options", "SELECT `optionOwner`, `optionName`, `optionValue` FROM `chunk_Options`", new String[]{ "optionOwner", "optionName" }, true, (rs) -> {
+            UUID playerUUID = UUID.fromString(rs.getString("optionOwner"));
+            ClaimSettings setting = ClaimSettings.valueOf(rs.getString("optionName"));
+            boolean enabled = Boolean.parseBoolean(rs.getString("optionValue"));
+            
+            return () -> this.getPlayerDat(playerUUID)
+                .updateSetting(setting, enabled);
+        });
     }
     public boolean convertClaims(MinecraftServer server) {
-        long check = System.currentTimeMillis() / 1000;
-        try (MySQLStatement stmt = CoreMod.getSQL().prepare("SELECT `chunkX`, `chunkZ`, `chunkOwner`, `chunkTown`, `chunkWorld` FROM `chunk_Claimed` ORDER BY `chunkWorld` ASC, `chunkX` ASC, `chunkZ` ASC;" )) {
-            // Iterate chunk results
-            try (ResultSet rs = stmt.executeStatement()){
-                while (rs.next()) {
-                    // Get the dimension
-                    int dimId = rs.getInt("chunkWorld");
-                    DimensionType dimension = DimensionType.byRawId(dimId);
-                    if (dimension == null) {
-                        CoreMod.logError("Failed to import chunks from world " + dimId + ". World type no longer exists?");
-                        continue;
-                    }
-                    
-                    // Get the world based on ID
-                    ServerWorld world = server.getWorld(dimension);
-                    
-                    // Wait for 2 seconds, every second
-                    if (check < ((System.currentTimeMillis() / 1000) - 1)) {
-                        Thread.sleep( 2000 );
-                        check = System.currentTimeMillis() / 1000;
+        // Chunks are loaded one at a time, off of the worker pool
+        return this.convertTable("claims", "SELECT `chunkX`, `chunkZ`, `chunkOwner`, `chunkTown`, `chunkWorld` FROM `chunk_Claimed`", new String[]{ "chunkWorld", "chunkX", "chunkZ" }, false, (rs) -> {
+            // Get the dimension
+            int dimId = rs.getInt("chunkWorld");
+            DimensionType dimension = DimensionType.byRawId(dimId);
+            if (dimension == null) {
+                CoreMod.logError("Failed to import chunks from world " + dimId + ". World type no longer exists?");
+                return null;
+            }
+            
+            // Get the world based on ID
+            ServerWorld world = server.getWorld(dimension);
+            if (world == null)
+                return null;
+            
+            int x = rs.getInt("chunkX");
+            int z = rs.getInt("chunkZ");
+            
+            // Get the UUIDs from the database
+            String uuid;
+            UUID ownerUUID = UUID.fromString(rs.getString("chunkOwner"));
+            UUID townUUID = ((uuid = rs.getString("chunkTown")) == null ? null : UUID.fromString( uuid ));
+            
+            return () -> {
+                WorldChunk chunk = (WorldChunk) world.getChunk(x, z, ChunkStatus.FULL);
+                IClaimedChunk claim = (IClaimedChunk) chunk;
+                
+                // Save chunk to player NBT
+                ClaimantPlayer player = this.getPlayerDat( ownerUUID );
+                player.addToCount( chunk );
+                
+                // Update the chunk
+                claim.updatePlayerOwner( ownerUUID );
+                claim.updateTownOwner( townUUID );
+                
+                // ENSURE THE CHUNK GETS SAVED
+                chunk.markDirty();
+                
+                if (CoreMod.isDebugging())
+                    CoreMod.logInfo(String.format("Converting chunk %d, %d to \"%s\" in %s", x, z, (ownerUUID.equals(CoreMod.spawnID) ? "Spawn" : ownerUUID.toString()), dimension.toString()));
+            };
+        }, () -> {
+            // Save the world before the checkpoint
+            server.save(true, false, true);
+        });
+    }
+    
+    /*
+     * Paged table conversion
+     */
+    private boolean convertTable(@NotNull String stage, @NotNull String select, @NotNull String[] keys, boolean parallel, @NotNull RowConverter converter) {
+        return this.convertTable(stage, select, keys, parallel, converter, null);
+    }
+    private boolean convertTable(@NotNull String stage, @NotNull String select, @NotNull String[] keys, boolean parallel, @NotNull RowConverter converter, @Nullable Runnable beforeCheckpoint) {
+        CompoundTag progress = this.checkpoint.getCompound(stage);
+        if (progress.getBoolean("done"))
+            return true; // Stage was already completed
+        
+        // Pages continue after the last key read, keys must be unique so that no rows are skipped or repeated
+        String columns = Arrays.stream(keys).map((key) -> "`" + key + "`").collect(Collectors.joining(", "));
+        String order = " ORDER BY " + Arrays.stream(keys).map((key) -> "`" + key + "` ASC").collect(Collectors.joining(", ")) + " LIMIT ?;";
+        String after = " WHERE (" + columns + ") > (" + Arrays.stream(keys).map((key) -> "?").collect(Collectors.joining(", ")) + ")";
+        
+        CompoundTag lastKey = (progress.contains("key", NbtType.COMPOUND) ? progress.getCompound("key") : null);
+        long started = System.currentTimeMillis();
+        int converted = 0;
+        
+        try (MySQLStatement first = CoreMod.getSQL().prepare(select + order);
+             MySQLStatement next = CoreMod.getSQL().prepare(select + after + order)) {
+            int rows;
+            do {
+                List<CompletableFuture<Void>> tasks = new ArrayList<>();
+                rows = 0;
+                
+                MySQLStatement stmt = first;
+                if (lastKey != null) {
+                    stmt = next;
+                    for (String key : keys) {
+                        Tag value = lastKey.get(key);
+                        if (value instanceof AbstractNumberTag)
+                            stmt.addPrepared(((AbstractNumberTag) value).getInt());
+                        else stmt.addPrepared(value == null ? null : value.asString());
                     }
-                    
-                    // If our world exists
-                    if (world != null) {
-                        int x = rs.getInt("chunkX");
-                        int z = rs.getInt("chunkZ");
-                        
-                        WorldChunk chunk = (WorldChunk) world.getChunk(x, z, ChunkStatus.FULL);
-                        IClaimedChunk claim = (IClaimedChunk) chunk;
-                        
-                        // Get the UUIDs from the database
-                        String uuid;
-                        UUID ownerUUID = UUID.fromString(rs.getString("chunkOwner"));
-                        UUID townUUID = ((uuid = rs.getString("chunkTown")) == null ? null : UUID.fromString( uuid ));
-                        
-                        // Save chunk to player NBT
-                        ClaimantPlayer player = this.getPlayerDat( ownerUUID );
-                        player.addToCount( chunk );
-                        
-                        // Update the chunk
-                        claim.updatePlayerOwner( ownerUUID );
-                        claim.updateTownOwner( townUUID );
-                        
-                        // ENSURE THE CHUNK GETS SAVED
-                        chunk.markDirty();
+                }
+                
+                // Read the page on this thread, convert it on the workers
+                try (ResultSet rs = stmt.addPrepared( PAGE_SIZE ).executeStatement()) {
+                    while (rs.next()) {
+                        rows++;
+                        lastKey = LegacyConverter.readKey( rs, keys );
                         
-                        // Obtain the chunk
-                        CoreMod.logInfo(String.format("Converting chunk %d, %d to \"%s\" in %s", x, z, (ownerUUID.equals(CoreMod.spawnID) ? "Spawn" : ownerUUID.toString()), dimension.toString()));
+                        Runnable task = converter.read( rs );
+                        if (task == null)
+                            continue;
+                        if (parallel)
+                            tasks.add(CompletableFuture.runAsync( task, this.workers ));
+                        else task.run();
                     }
                 }
-            }
-            
-            // Save the world after completion
-            server.save(true, false, true);
+                
+                // Wait for the page, then save everything it touched
+                CompletableFuture.allOf(tasks.toArray(new CompletableFuture[0])).join();
+                this.savePage();
+                if (beforeCheckpoint != null)
+                    beforeCheckpoint.run();
+                
+                converted += rows;
+                this.writeCheckpoint( stage, lastKey, rows < PAGE_SIZE );
+                
+                long seconds = Math.max( 1, (System.currentTimeMillis() - started) / 1000 );
+                CoreMod.logInfo(String.format("Converted %d rows of %s (%d rows/s)", converted, stage, converted / seconds));
+            } while (rows >= PAGE_SIZE);
         } catch (SQLException e) {
-            if (this.shouldFail( e )) return false;
-        } catch (InterruptedException e) {
-            CoreMod.logError( e );
+            return !this.shouldFail( e );
+        } catch (CompletionException e) {
+            CoreMod.logError("Failed to convert legacy " + stage + ", progress is saved up to the last completed page.", e.getCause());
             return false;
         }
         return true;
     }
+    @NotNull
+    private static CompoundTag readKey(@NotNull ResultSet rs, @NotNull String[] keys) throws SQLException {
+        CompoundTag tag = new CompoundTag();
+        for (String key : keys) {
+            Object value = rs.getObject( key );
+            if (value instanceof Number)
+                tag.putInt(key, ((Number) value).intValue());
+            else if (value != null)
+                tag.putString(key, value.toString());
+        }
+        return tag;
+    }
+    private void savePage() {
+        for (ClaimantTown town : this.modTownData.values())
+            town.save();
+        for (ClaimantPlayer player : this.modPlayerData.values())
+            player.save();
+        
+        this.modTownData.clear();
+        this.modPlayerData.clear();
+    }
     
     @Override
     public void close() {
@@ -320,33 +405,91 @@ public final class LegacyConverter implements AutoCloseable {
                         + System.lineSeparator();
                 }
                 
+                // Nothing left to resume
+                LegacyConverter.deleteCheckpoint();
+                
                 // Completed
                 CoreMod.logInfo("Legacy conversion completed. [" + millis + "ms]"
                     + System.lineSeparator() + message
                 );
                 return;
             }
-            CoreMod.logError("Legacy conversion failed. [" + millis + "ms]");
+            CoreMod.logError("Legacy conversion failed, run it again to resume. [" + millis + "ms]");
         } finally {
             this.modTownData.clear();
             this.modPlayerData.clear();
         }
     }
     
+    @FunctionalInterface
+    private interface RowConverter {
+        /**
+         * Read the columns of the current row, returning the work to do with them
+         */
+        @Nullable
+        Runnable read(ResultSet rs) throws SQLException;
+    }
+    
     /*
      * Mod NBT Data
      */
     @NotNull
     private ClaimantPlayer getPlayerDat(UUID playerUUID) {
-        if (!this.modPlayerData.containsKey(playerUUID))
-            this.modPlayerData.put(playerUUID, ClaimantPlayer.get(playerUUID));
-        return this.modPlayerData.get(playerUUID);
+        return this.modPlayerData.computeIfAbsent(playerUUID, ClaimantPlayer::get);
     }
     @Nullable
     private ClaimantTown getTownDat(UUID townUUID) {
-        if (!this.modTownData.containsKey(townUUID))
-            return null;
-        return this.modTownData.get(townUUID);
+        ClaimantTown town;
+        if ((town = this.modTownData.get(townUUID)) != null)
+            return town;
+        try {
+            // Towns from earlier pages have already been saved
+            if ((town = ClaimantTown.get(townUUID)) != null) {
+                ClaimantTown existing = this.modTownData.putIfAbsent(townUUID, town);
+                return (existing == null ? town : existing);
+            }
+        } catch (NbtNotFoundException ignored) {}
+        return null;
+    }
+    
+    /*
+     * Conversion checkpoints
+     */
+    @NotNull
+    private static CompoundTag readCheckpoint() {
+        File file = LegacyConverter.getCheckpointFile();
+        if (file.exists()) {
+            try (FileInputStream stream = new FileInputStream( file )) {
+                return NbtIo.readCompressed( stream );
+            } catch (IOException e) {
+                CoreMod.logError( e );
+            }
+        }
+        return new CompoundTag();
+    }
+    private void writeCheckpoint(@NotNull String stage, @Nullable CompoundTag lastKey, boolean done) {
+        CompoundTag progress = new CompoundTag();
+        if (lastKey != null)
+            progress.put("key", lastKey);
+        progress.putBoolean("done", done);
+        this.checkpoint.put(stage, progress);
+        
+        File file = LegacyConverter.getCheckpointFile();
+        if ((!file.getParentFile().exists()) && (!file.getParentFile().mkdirs()))
+            return;
+        try (FileOutputStream stream = new FileOutputStream( file )) {
+            NbtIo.writeCompressed( this.checkpoint, stream );
+        } catch (IOException e) {
+            CoreMod.logError( e );
+        }
+    }
+    private static void deleteCheckpoint() {
+        File file = LegacyConverter.getCheckpointFile();
+        if (file.exists() && (!file.delete()))
+            CoreMod.logError("Failed to remove the legacy conversion checkpoint " + file.getAbsolutePath());
+    }
+    private static File getCheckpointFile() {
+        return new File(new File(NbtUtils.worldFolder(), "sewing-machine"), "legacy_conversion.dat");
     }
     
     /*
@@ -25,11 +25,16 @@
 
 package net.TheElm.project.utilities;
 
+import net.TheElm.project.CoreMod;
 import net.TheElm.project.ServerCore;
 import net.TheElm.project.enums.ChatRooms;
 import net.TheElm.project.interfaces.PlayerData;
+import net.TheElm.project.interfaces.PlayerServerLanguage;
+import net.TheElm.project.interfaces.PreEncodedPacket;
+import net.TheElm.project.objects.MuteRegistry;
 import net.TheElm.project.protections.claiming.ClaimantPlayer;
 import net.TheElm.project.protections.claiming.ClaimantTown;
+import net.minecraft.client.network.packet.ChatMessageS2CPacket;
 import net.minecraft.network.MessageType;
 import net.minecraft.predicate.entity.EntityPredicates;
 import net.minecraft.server.MinecraftServer;
@@ -47,7 +52,14 @@ import net.minecraft.world.dimension.DimensionType;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.io.IOException;
+import java.util.Collections;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 public final class MessageUtils {
@@ -56,21 +68,24 @@ public final class MessageUtils {
     
     // General send
     public static void sendTo(ChatRooms chatRoom, ServerPlayerEntity player, Text chatText) {
+        // Players that have personally muted the sender
+        Set<UUID> muted = MuteRegistry.getListenersMuting( player.getUuid() );
+        
         switch (chatRoom) {
             // Local message
             case LOCAL: {
-                MessageUtils.sendToLocal( player.world, player.getBlockPos(), chatText );
+                MessageUtils.sendToLocal( player.world, player.getBlockPos(), chatText, muted );
                 break;
             }
             // Global message
             case GLOBAL: {
-                MessageUtils.sendToAll( chatText );
+                MessageUtils.sendToAll( chatText, muted );
                 break;
             }
             // Message to the players town
             case TOWN: {
                 ClaimantPlayer claimantPlayer = ((PlayerData) player).getClaim();
-                MessageUtils.sendToTown( claimantPlayer.getTown(), chatText );
+                MessageUtils.sendToTown( claimantPlayer.getTown(), chatText, muted );
                 break;
             }
         }
@@ -101,6 +116,9 @@ public final class MessageUtils {
     
     // Send a text blob to a local area
     public static void sendToLocal(final World world, final BlockPos blockPos, Text text) {
+        MessageUtils.sendToLocal( world, blockPos, text, Collections.emptySet() );
+    }
+    private static void sendToLocal(final World world, final BlockPos blockPos, Text text, final Set<UUID> muted) {
         // Log to the server
         ((ServerWorld) world).getServer().sendMessage(text);
         
@@ -111,7 +129,7 @@ public final class MessageUtils {
         
         // Send the message to the players
         MessageUtils.sendChat(
-            players.stream(),
+            MessageUtils.withoutMuted( players.stream(), muted ),
             text
         );
     }
@@ -126,13 +144,16 @@ public final class MessageUtils {
         );
     }
     public static void sendToAll(final Text text) {
+        MessageUtils.sendToAll( text, Collections.emptySet() );
+    }
+    private static void sendToAll(final Text text, final Set<UUID> muted) {
         final MinecraftServer server = ServerCore.get();
         // Log to the server
         server.sendMessage(text);
         
         // Send to the players
         MessageUtils.sendChat(
-            server.getPlayerManager().getPlayerList().stream(),
+            MessageUtils.withoutMuted( server.getPlayerManager().getPlayerList().stream(), muted ),
             text
         );
     }
@@ -150,20 +171,30 @@ public final class MessageUtils {
         );
     }
     public static void sendToTown(final ClaimantTown town, final Text text) {
+        MessageUtils.sendToTown( town, text, Collections.emptySet() );
+    }
+    private static void sendToTown(final ClaimantTown town, final Text text, final Set<UUID> muted) {
         final MinecraftServer server = ServerCore.get();
         // Log to the server
         server.sendMessage(text);
         
         // Send to the players
         MessageUtils.sendChat(
-            server.getPlayerManager().getPlayerList().stream().filter((player) -> {
+            MessageUtils.withoutMuted( server.getPlayerManager().getPlayerList().stream().filter((player) -> {
                 ClaimantPlayer claimant = ((PlayerData) player).getClaim();
                 return (claimant != null) && (claimant.getTown() != null) && town.getId().equals(claimant.getTown().getId());
-            }),
+            }), muted ),
             text
         );
     }
     
+    // Remove players that have muted the sender
+    private static Stream<ServerPlayerEntity> withoutMuted(final Stream<ServerPlayerEntity> players, final Set<UUID> muted) {
+        if (muted.isEmpty())
+            return players;
+        return players.filter((player) -> !muted.contains( player.getUuid() ));
+    }
+    
     // Send a translation blob to OPs
     public static void sendToOps(final String translationKey, final Object... objects) {
         MessageUtils.sendToOps( 1, translationKey, objects );
@@ -179,12 +210,34 @@ public final class MessageUtils {
     
     // Send a translation blob to a stream of players
     private static void sendSystem(final Stream<ServerPlayerEntity> players, final String translationKey, final Object... objects) {
-        players.forEach((player) -> player.sendMessage(
-            TranslatableServerSide.text(player, translationKey, objects).formatted(Formatting.YELLOW)
+        // Group the players by their language
+        Map<Locale, List<ServerPlayerEntity>> languages = players.collect(Collectors.groupingBy(
+            (player) -> ((PlayerServerLanguage) player).getClientLanguage()
         ));
+        
+        // Translate once per language
+        for (Map.Entry<Locale, List<ServerPlayerEntity>> language : languages.entrySet()) {
+            MessageUtils.sendPacket(
+                language.getValue().stream(),
+                TranslatableServerSide.text(language.getKey(), translationKey, objects).formatted(Formatting.YELLOW),
+                MessageType.SYSTEM
+            );
+        }
     }
     private static void sendChat(final Stream<ServerPlayerEntity> players, final Text text) {
-        players.forEach((player) -> player.sendChatMessage( text, MessageType.CHAT ));
+        MessageUtils.sendPacket( players, text, MessageType.CHAT );
+    }
+    private static void sendPacket(final Stream<ServerPlayerEntity> players, final Text text, final MessageType type) {
+        // Create a single packet to share between all of the players
+        ChatMessageS2CPacket packet = new ChatMessageS2CPacket( text, type );
+        try {
+            ((PreEncodedPacket) packet).preEncode();
+        } catch (IOException e) {
+            // The packet will be encoded per-connection instead
+            CoreMod.logError( e );
+        }
+        
+        players.forEach((player) -> player.networkHandler.sendPacket( packet ));
     }
     
     // Convert a Block Position to a Text component
@@ -60,6 +60,10 @@ public final class NbtUtils {
     
     @NotNull
     public static File worldFolder() {
+        // Tools that run without a server (Such as the benchmarks) can set their own
+        String override;
+        if ((override = System.getProperty( CoreMod.MOD_ID + ".world" )) != null)
+            return new File( override );
         return new File(CoreMod.getFabric().getGameDirectory(),
             ServerCore.get().getLevelName());
     }
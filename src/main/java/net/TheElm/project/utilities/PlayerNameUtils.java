@@ -36,6 +36,9 @@ import net.TheElm.project.enums.ChatRooms;
 import net.TheElm.project.exceptions.NbtNotFoundException;
 import net.TheElm.project.interfaces.Nicknamable;
 import net.TheElm.project.interfaces.PlayerData;
+import net.TheElm.project.interfaces.PlayerNameLookup;
+import net.TheElm.project.objects.PlayerNameIndex;
+import net.TheElm.project.objects.PlayerNameRequests;
 import net.TheElm.project.protections.claiming.ClaimantPlayer;
 import net.TheElm.project.protections.claiming.ClaimantTown;
 import net.fabricmc.fabric.api.util.NbtType;
@@ -57,12 +60,34 @@ import java.io.IOException;
 import java.io.InputStreamReader;
 import java.net.HttpURLConnection;
 import java.net.URL;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 
 public final class PlayerNameUtils {
     
+    // How many names to keep ready to use
+    private static final int RECENT_SIZE = 256;
+    
+    private static final Map<UUID, Text> RECENT_NAMES = PlayerNameUtils.createRecentMap();
+    private static final Map<UUID, Text> RECENT_NICKNAMES = PlayerNameUtils.createRecentMap();
+    private static final PlayerNameIndex NAME_INDEX = new PlayerNameIndex();
+    
+    private static final PlayerNameRequests REMOTE_NAMES = new PlayerNameRequests( PlayerNameUtils::lookupMojangName );
+    
     private PlayerNameUtils() {}
     
+    private static Map<UUID, Text> createRecentMap() {
+        return new LinkedHashMap<UUID, Text>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<UUID, Text> eldest) {
+                return this.size() > RECENT_SIZE;
+            }
+        };
+    }
+    
     public static Text getServerChatDisplay(ChatRooms chatRoom) {
         return new LiteralText("[").formatted(chatRoom.getFormatting())
             .append(PlayerNameUtils.formattedWorld( null ))
@@ -173,28 +198,150 @@ public final class PlayerNameUtils {
             .styled((style -> style.setHoverEvent(new HoverEvent(HoverEvent.Action.SHOW_TEXT, new LiteralText( name ).formatted( Formatting.WHITE )))));
     }
     
+    /*
+     * Name lookups
+     */
+    /**
+     * Get the display name of a player, including their nickname, without blocking
+     * @param uuid The UUID of the player
+     * @return The name of the player, or a placeholder while the name is being looked up
+     */
     public static Text fetchPlayerNick(@NotNull UUID uuid) {
+        return PlayerNameUtils.fetchPlayerNick( uuid, null );
+    }
+    /**
+     * Get the display name of a player, including their nickname, without blocking
+     * @param uuid The UUID of the player
+     * @param callback Called on the server thread with the name if a placeholder was returned
+     * @return The name of the player, or a placeholder while the name is being looked up
+     */
+    public static Text fetchPlayerNick(@NotNull UUID uuid, @Nullable Consumer<Text> callback) {
         Text out;
-        if ((!uuid.equals(CoreMod.spawnID)) && ((out = PlayerNameUtils.getOfflinePlayerNickname( uuid )) != null))
+        if ((!uuid.equals(CoreMod.spawnID)) && ((out = PlayerNameUtils.getPlayerNickname( uuid )) != null))
             return out;
-        return PlayerNameUtils.fetchPlayerName( uuid );
+        return PlayerNameUtils.fetchPlayerName( uuid, callback );
     }
+    /**
+     * Get the name of a player without blocking
+     * @param uuid The UUID of the player
+     * @return The name of the player, or a placeholder while the name is being looked up
+     */
     public static Text fetchPlayerName(@NotNull UUID uuid) {
+        return PlayerNameUtils.fetchPlayerName( uuid, null );
+    }
+    /**
+     * Get the name of a player without blocking
+     * @param uuid The UUID of the player
+     * @param callback Called on the server thread with the name if a placeholder was returned
+     * @return The name of the player, or a placeholder while the name is being looked up
+     */
+    public static Text fetchPlayerName(@NotNull UUID uuid, @Nullable Consumer<Text> callback) {
         // If we're looking up UUID 0, 0 (Spawn) don't try to do a lookup
         if ( uuid.equals( CoreMod.spawnID ) )
             return new LiteralText(SewingMachineConfig.INSTANCE.NAME_SPAWN.get());
         
-        // Check if there is an online player with UUID (No unnecessary web calls)
+        // Check the recently used names
         Text playerName;
+        synchronized (RECENT_NAMES) {
+            if ((playerName = RECENT_NAMES.get( uuid )) != null)
+                return playerName.deepCopy();
+        }
+        
+        // Check if there is an online player with UUID (No unnecessary web calls)
         if ((playerName = getOnlinePlayerName(uuid)) != null)
-            return playerName;
+            return PlayerNameUtils.rememberName( uuid, playerName );
         
+        // Check the names saved to the world, and then the server user cache
         String cachedName;
-        if (((cachedName = getCachedPlayerName(uuid)) != null) && (!StringUtils.isBlank(cachedName)))
+        if ((((cachedName = NAME_INDEX.getName(uuid)) != null) || ((cachedName = getCachedPlayerName(uuid)) != null)) && (!StringUtils.isBlank(cachedName))) {
+            NAME_INDEX.putName( uuid, cachedName );
+            return PlayerNameUtils.rememberName( uuid, new LiteralText( cachedName ) );
+        }
+        
+        // Look up the name remotely and use a placeholder until then
+        PlayerNameUtils.lookupPlayerName( uuid, callback );
+        return new LiteralText("Unknown player");
+    }
+    private static void lookupPlayerName(@NotNull UUID uuid, @Nullable Consumer<Text> callback) {
+        final MinecraftServer server = ServerCore.get();
+        CompletableFuture<String> lookup = REMOTE_NAMES.request( uuid );
+        
+        // Save the player name to the caches
+        lookup.thenAccept((name) -> {
+            if (name != null) server.execute(() -> {
+                NAME_INDEX.putName( uuid, name );
+                server.getUserCache().add(new GameProfile( uuid, name ));
+                PlayerNameUtils.rememberName( uuid, new LiteralText( name ) );
+            });
+        });
+        
+        // Hand the name to the caller once it is known
+        if (callback != null) {
+            lookup.whenComplete((name, error) -> server.execute(() -> callback.accept(
+                name == null ? new LiteralText("Unknown player") : new LiteralText( name )
+            )));
+        }
+    }
+    
+    /*
+     * Name tiers
+     */
+    @Nullable
+    private static Text getOnlinePlayerName(@NotNull UUID uuid) {
+        MinecraftServer server = ServerCore.get();
+        ServerPlayerEntity player;
+        if ((player = server.getPlayerManager().getPlayer( uuid )) == null)
+            return null;
+        return player.getName();
+    }
+    private static String getCachedPlayerName(@NotNull UUID uuid) {
+        String name = null;
+        MinecraftServer server = ServerCore.get();
+        GameProfile profile = server.getUserCache().getByUuid( uuid );
+        if (profile != null)
+            name = profile.getName();
+        return name;
+    }
+    @Nullable
+    private static Text getPlayerNickname(@NotNull UUID uuid) {
+        Text nickname;
+        synchronized (RECENT_NICKNAMES) {
+            if ((nickname = RECENT_NICKNAMES.get( uuid )) != null)
+                return nickname.deepCopy();
+        }
         
-        // Log that a request is being made
-        CoreMod.logInfo( "Looking up username of " + uuid.toString() );
+        // Online players have their nickname loaded
+        ServerPlayerEntity player;
+        if ((player = ServerCore.get().getPlayerManager().getPlayer( uuid )) != null)
+            nickname = ((Nicknamable) player).getPlayerNickname();
+        else {
+            // Only read the offline player data once
+            if (!NAME_INDEX.hasNickname( uuid ))
+                NAME_INDEX.putNickname( uuid, PlayerNameUtils.getOfflinePlayerNickname( uuid ) );
+            
+            String json;
+            if ((json = NAME_INDEX.getNickname( uuid )) != null)
+                nickname = Text.Serializer.fromJson( json );
+        }
         
+        if (nickname == null)
+            return null;
+        synchronized (RECENT_NICKNAMES) {
+            RECENT_NICKNAMES.put( uuid, nickname.deepCopy() );
+        }
+        return nickname;
+    }
+    @Nullable
+    private static String getOfflinePlayerNickname(@NotNull UUID uuid) {
+        try {
+            CompoundTag tag = NbtUtils.readOfflinePlayerData(uuid);
+            if ((tag != null) && tag.contains("PlayerNickname", NbtType.STRING))
+                return tag.getString("PlayerNickname");
+        } catch (NbtNotFoundException ignored) {}
+        return null;
+    }
+    @Nullable
+    private static String lookupMojangName(@NotNull UUID uuid) throws IOException {
         HttpURLConnection connection = null;
         try {
             // Create the URL
@@ -214,55 +361,50 @@ public final class PlayerNameUtils {
                     content.append(line);
                 }
                 
+                // No content is returned for unknown players
+                if (content.length() == 0)
+                    return null;
+                
                 JsonArray nameHistory = new JsonParser().parse( content.toString() ).getAsJsonArray();
                 JsonObject nameLatest = nameHistory.get( nameHistory.size() - 1 ).getAsJsonObject();
                 
-                playerName = new LiteralText( nameLatest.get( "name" ).getAsString() );
-                
-                // Save the player name to the cache
-                ServerCore.get().getUserCache().add(new GameProfile(
-                    uuid,
-                    playerName.getString()
-                ));
+                return nameLatest.get( "name" ).getAsString();
             }
             
-        } catch (IOException e) {
-            CoreMod.logError( e );
-            
         } finally {
             if (connection != null)
                 connection.disconnect();
-            if ( playerName == null )
-                CoreMod.logInfo( "Player name of " + uuid.toString() + " [LOOKUP FAILED]" );
-            else CoreMod.logInfo( "Player name of " + uuid.toString() + " is " + playerName.getString() );
         }
-        
-        return ( playerName == null ? new LiteralText("Unknown player") : playerName );
     }
-    @Nullable
-    private static Text getOnlinePlayerName(@NotNull UUID uuid) {
-        MinecraftServer server = ServerCore.get();
-        ServerPlayerEntity player;
-        if ((player = server.getPlayerManager().getPlayer( uuid )) == null)
-            return null;
-        return player.getName();
-    }
-    private static String getCachedPlayerName(@NotNull UUID uuid) {
-        String name = null;
-        MinecraftServer server = ServerCore.get();
-        GameProfile profile = server.getUserCache().getByUuid( uuid );
-        if (profile != null)
-            name = profile.getName();
+    
+    /*
+     * Name caching
+     */
+    private static Text rememberName(@NotNull UUID uuid, @NotNull Text name) {
+        synchronized (RECENT_NAMES) {
+            RECENT_NAMES.put( uuid, name.deepCopy() );
+        }
         return name;
     }
-    @Nullable
-    private static Text getOfflinePlayerNickname(@NotNull UUID uuid) {
-        try {
-            CompoundTag tag = NbtUtils.readOfflinePlayerData(uuid);
-            if ((tag != null) && tag.contains("PlayerNickname", NbtType.STRING))
-                return Text.Serializer.fromJson(tag.getString("PlayerNickname"));
-        } catch (NbtNotFoundException ignored) {}
-        return null;
+    public static void updatePlayer(@NotNull ServerPlayerEntity player) {
+        UUID uuid = player.getUuid();
+        NAME_INDEX.putName( uuid, player.getGameProfile().getName() );
+        synchronized (RECENT_NAMES) {
+            RECENT_NAMES.remove( uuid );
+        }
+        PlayerNameUtils.updateNickname( uuid, ((Nicknamable) player).getPlayerNickname() );
+    }
+    public static void updateNickname(@NotNull UUID uuid, @Nullable Text nickname) {
+        NAME_INDEX.putNickname( uuid, nickname == null ? null : Text.Serializer.toJson( nickname ) );
+        synchronized (RECENT_NICKNAMES) {
+            RECENT_NICKNAMES.remove( uuid );
+        }
+    }
+    public static void setRemoteLookup(@NotNull PlayerNameLookup lookup) {
+        REMOTE_NAMES.setLookup( lookup );
+    }
+    public static void save() {
+        NAME_INDEX.save();
     }
     
     private static String stripUUID(@NotNull UUID uuid) {
@@ -114,9 +114,11 @@ public final class RankUtils {
         }
     }
     public static boolean hasPermission(@NotNull ServerPlayerEntity player, String permission) {
+        return RankUtils.hasPermission( RankUtils.getPlayerRanks(player), permission );
+    }
+    public static boolean hasPermission(@NotNull PlayerRank[] ranks, String permission) {
         boolean result = false;
         
-        PlayerRank[] ranks = RankUtils.getPlayerRanks(player);
         for (int i = (ranks.length - 1); i >= 0; --i) {
             PlayerRank rank = ranks[i];
             
@@ -218,6 +220,5 @@ public final class RankUtils {
         JsonElement element = jp.parse(new FileReader(ranksFile));
         return element.getAsJsonObject();
     }
-    static { reload(); }
     
 }
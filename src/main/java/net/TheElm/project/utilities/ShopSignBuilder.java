@@ -25,6 +25,8 @@
 
 package net.TheElm.project.utilities;
 
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
 import net.TheElm.project.CoreMod;
 import net.TheElm.project.enums.ShopSigns;
 import net.TheElm.project.exceptions.ShopBuilderException;
@@ -41,10 +43,10 @@ import net.minecraft.util.InvalidIdentifierException;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.registry.Registry;
 import net.minecraft.world.World;
+import net.minecraft.world.dimension.DimensionType;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.UUID;
@@ -60,6 +62,7 @@ public final class ShopSignBuilder {
     private final World world;
     private final BlockPos blockPos;
     private Text[] lines = new Text[4];
+    private long lastUpdated;
     
     /* 
      * Shop information
@@ -79,6 +82,7 @@ public final class ShopSignBuilder {
         this.world = world;
         this.blockPos = blockPos;
         this.sign = sign;
+        this.lastUpdated = world.getTime();
     }
     
     /*
@@ -136,6 +140,7 @@ public final class ShopSignBuilder {
             return false;
         
         this.lines[line] = text;
+        this.lastUpdated = this.world.getTime();
         
         return true;
     }
@@ -154,7 +159,7 @@ public final class ShopSignBuilder {
             return true;
         } finally {
             // Remove from the map
-            buildingSigns.remove( createIdentifier( this.world, this.blockPos ) );
+            ShopSignBuilder.getDimension( this.world ).remove( this.blockPos.asLong() );
         }
     }
     private void formatOrBreak(@NotNull final ServerPlayerEntity creator) {
@@ -239,19 +244,43 @@ public final class ShopSignBuilder {
     /*
      * Static methods
      */
-    private static final Map<String, ShopSignBuilder> buildingSigns = Collections.synchronizedMap(new HashMap<>());
+    // How long a sign can go without being edited before it is forgotten
+    private static final long SESSION_TIMEOUT = 20L * 60 * 5;
+    
+    // Only accessed from the server thread
+    private static final Map<DimensionType, Long2ObjectMap<ShopSignBuilder>> BUILDING_SIGNS = new HashMap<>();
+    
     public static ShopSignBuilder create(@NotNull final World world, @NotNull final BlockPos blockPos, @NotNull final SignBlockEntity sign) {
-        String worldLocation = createIdentifier( world, blockPos);
-        if (buildingSigns.containsKey( worldLocation ))
-            return buildingSigns.get( worldLocation );
+        Long2ObjectMap<ShopSignBuilder> builders = ShopSignBuilder.getDimension( world );
         
-        ShopSignBuilder builder = new ShopSignBuilder( world, blockPos, sign );
-        buildingSigns.put( worldLocation, builder );
+        ShopSignBuilder builder = builders.get( blockPos.asLong() );
+        if ((builder != null) && (builder.sign == sign))
+            return builder;
+        
+        builder = new ShopSignBuilder( world, blockPos.toImmutable(), sign );
+        builders.put( blockPos.asLong(), builder );
         
         return builder;
     }
-    private static String createIdentifier(@NotNull final World world, @NotNull final BlockPos blockPos) {
-        return world.getDimension().getType().getRawId() + ":" + blockPos.getX() + "," + blockPos.getZ() + "," + blockPos.getY();
+    
+    /**
+     * Forget signs that stopped being edited, or are no longer loaded
+     * @param world The world to check the signs of
+     */
+    public static void expire(@NotNull final World world) {
+        Long2ObjectMap<ShopSignBuilder> builders = BUILDING_SIGNS.get( world.dimension.getType() );
+        if ((builders == null) || builders.isEmpty())
+            return;
+        
+        final long now = world.getTime();
+        builders.values().removeIf((builder) -> (now - builder.lastUpdated > SESSION_TIMEOUT)
+            || builder.sign.isInvalid()
+            || (!world.isChunkLoaded( builder.blockPos.getX() >> 4, builder.blockPos.getZ() >> 4 )));
+    }
+    
+    @NotNull
+    private static Long2ObjectMap<ShopSignBuilder> getDimension(@NotNull final World world) {
+        return BUILDING_SIGNS.computeIfAbsent( world.dimension.getType(), (dimension) -> new Long2ObjectOpenHashMap<>() );
     }
     
 }
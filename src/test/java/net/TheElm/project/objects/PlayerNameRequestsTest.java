@@ -0,0 +1,129 @@
+/*
+ * This software is licensed under the MIT License
+ * https://github.com/GStefanowich/MC-Server-Protection
+ *
+ * Copyright (c) 2019 Gregory Stefanowich
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package net.TheElm.project.objects;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PlayerNameRequestsTest {
+    
+    private static final UUID KNOWN = new UUID( 1L, 1L );
+    private static final UUID UNKNOWN = new UUID( 2L, 2L );
+    
+    // A local stand-in for the remote lookup
+    private final Map<UUID, String> names = new HashMap<>();
+    private final AtomicInteger calls = new AtomicInteger();
+    // Lookups run when the test says so
+    private final Deque<Runnable> queued = new ArrayDeque<>();
+    private long now = 0;
+    
+    private PlayerNameRequests requests;
+    
+    @BeforeEach
+    void setup() {
+        this.names.put( KNOWN, "Steve" );
+        this.requests = new PlayerNameRequests((uuid) -> {
+            this.calls.incrementAndGet();
+            return this.names.get( uuid );
+        }, this.queued::add, () -> this.now, 1000L);
+    }
+    
+    private void runQueued() {
+        Runnable runnable;
+        while ((runnable = this.queued.poll()) != null)
+            runnable.run();
+    }
+    
+    @Test
+    void resolvesNameAsynchronously() {
+        CompletableFuture<String> lookup = this.requests.request( KNOWN );
+        assertFalse( lookup.isDone() );
+        assertTrue( this.requests.isPending( KNOWN ) );
+        
+        this.runQueued();
+        assertEquals( "Steve", lookup.join() );
+        assertFalse( this.requests.isPending( KNOWN ) );
+    }
+    
+    @Test
+    void sharesLookupsInFlight() {
+        CompletableFuture<String> first = this.requests.request( KNOWN );
+        CompletableFuture<String> second = this.requests.request( KNOWN );
+        assertSame( first, second );
+        
+        this.runQueued();
+        assertEquals( 1, this.calls.get() );
+    }
+    
+    @Test
+    void remembersFailedLookups() {
+        this.requests.request( UNKNOWN );
+        this.runQueued();
+        
+        // Failed within the retry window, answered without another lookup
+        CompletableFuture<String> again = this.requests.request( UNKNOWN );
+        assertTrue( again.isDone() );
+        assertNull( again.join() );
+        assertEquals( 1, this.calls.get() );
+        
+        // Retried once the window has passed
+        this.now += 1000L;
+        this.requests.request( UNKNOWN );
+        this.runQueued();
+        assertEquals( 2, this.calls.get() );
+    }
+    
+    @Test
+    void treatsErrorsAsFailures() {
+        this.requests.setLookup((uuid) -> {
+            this.calls.incrementAndGet();
+            throw new IOException("Offline");
+        });
+        
+        CompletableFuture<String> lookup = this.requests.request( KNOWN );
+        this.runQueued();
+        assertNull( lookup.join() );
+        
+        assertTrue( this.requests.request( KNOWN ).isDone() );
+        assertEquals( 1, this.calls.get() );
+    }
+    
+}